@@ -0,0 +1,97 @@
+package org.saltations.systematics.core;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the cost of a failed {@link Outcome#attempt} under the different {@link CapturePolicy} settings.
+ * <p>
+ * The {@code current} benchmarks have the supplier throw a regular exception, which keeps the stack trace it was
+ * created with whatever the policy; the attempt adds no wrapper. The {@code lightweight} benchmarks throw a
+ * {@link LightweightException} created under the same policy as the attempt. The supplier is invoked at a configurable
+ * call depth since the cost of filling in a stack trace grows with the depth of the stack.
+ * </p>
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CapturePolicyBenchmark
+{
+    @Param({"10", "50"})
+    private int depth;
+
+    private CapturePolicy sampled;
+
+    @Setup
+    public void setup()
+    {
+        sampled = CapturePolicy.sampled(100);
+    }
+
+    @Benchmark
+    public Outcome<Integer> currentChecked()
+    {
+        return atDepth(depth, () -> Outcome.attempt(() -> failChecked(), CapturePolicy.FULL));
+    }
+
+    @Benchmark
+    public Outcome<Integer> currentUnchecked()
+    {
+        return atDepth(depth, () -> Outcome.attempt(() -> failUnchecked(), CapturePolicy.FULL));
+    }
+
+    @Benchmark
+    public Outcome<Integer> lightweightFull()
+    {
+        return atDepth(depth, () -> Outcome.attempt(() -> failLightweight(CapturePolicy.FULL), CapturePolicy.FULL));
+    }
+
+    @Benchmark
+    public Outcome<Integer> lightweightNone()
+    {
+        return atDepth(depth, () -> Outcome.attempt(() -> failLightweight(CapturePolicy.NONE), CapturePolicy.NONE));
+    }
+
+    @Benchmark
+    public Outcome<Integer> lightweightSampled()
+    {
+        return atDepth(depth, () -> Outcome.attempt(() -> failLightweight(sampled), sampled));
+    }
+
+    private static Integer failChecked() throws IOException
+    {
+        throw new IOException("Expected failure");
+    }
+
+    private static Integer failUnchecked()
+    {
+        throw new IllegalArgumentException("Expected failure");
+    }
+
+    private static Integer failLightweight(CapturePolicy policy)
+    {
+        throw new LightweightException("Expected failure", null, policy);
+    }
+
+    private static Outcome<Integer> atDepth(int depth, Supplier<Outcome<Integer>> attempt)
+    {
+        return depth <= 0 ? attempt.get() : atDepth(depth - 1, attempt);
+    }
+}
@@ -0,0 +1,66 @@
+package org.saltations.systematics.core;
+
+import java.text.MessageFormat;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares rendering a failure detail with {@link MessageFormat} against a {@link CompiledTemplate}.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompiledTemplateBenchmark
+{
+    private String template;
+    private CompiledTemplate compiled;
+    private String argument;
+    private String reason;
+
+    @Setup
+    public void setup()
+    {
+        template = "Could not process {0}: {1}";
+        compiled = CompiledTemplate.compile(template);
+        argument = "record-42";
+        reason = "missing SKU";
+    }
+
+    @Benchmark
+    public String messageFormat()
+    {
+        return MessageFormat.format(template, argument, reason);
+    }
+
+    @Benchmark
+    public String compileAndRender()
+    {
+        return CompiledTemplate.compile(template).render(argument, reason);
+    }
+
+    @Benchmark
+    public String precompiledRender()
+    {
+        return compiled.render(argument, reason);
+    }
+
+    @Benchmark
+    public CompiledTemplate cachedTypeLookup()
+    {
+        return BasicFailureType.GENERIC.compiledTemplate();
+    }
+}
@@ -0,0 +1,65 @@
+package org.saltations.systematics.core;
+
+import java.text.MessageFormat;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares eagerly formatted failure details with deferred {@link FailureDetail} rendering.
+ * <p>
+ * {@code eager} reproduces the historical factory behavior of formatting the template on creation.
+ * {@code deferred} is the common case of a failure handled by code whose detail is never read, and
+ * {@code deferredAndRead} the worst case where the detail is read once.
+ * </p>
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FailureDetailBenchmark
+{
+    private String title;
+    private String template;
+    private String argument;
+    private int count;
+
+    @Setup
+    public void setup()
+    {
+        title = "Benchmark failure";
+        template = "Could not process {0} after {1} attempts";
+        argument = "record-42";
+        count = 3;
+    }
+
+    @Benchmark
+    public Failure<String> eager()
+    {
+        return new Failure<>(BasicFailureType.GENERIC, title, MessageFormat.format(template, argument, count), null);
+    }
+
+    @Benchmark
+    public Failure<String> deferred()
+    {
+        return Outcomes.genericFailure(title, template, argument, count);
+    }
+
+    @Benchmark
+    public String deferredAndRead()
+    {
+        return Outcomes.<String>genericFailure(title, template, argument, count).detail();
+    }
+}
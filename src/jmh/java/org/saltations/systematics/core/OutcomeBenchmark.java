@@ -0,0 +1,134 @@
+package org.saltations.systematics.core;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of the {@link Outcome} instance operations on both the success and the failure branch.
+ * <p>
+ * Run with {@code ./gradlew jmh -Pjmh.includes=OutcomeBenchmark}. The GC profiler configured in the build reports
+ * {@code gc.alloc.rate.norm} (bytes/op) next to the average time (ns/op).
+ * </p>
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OutcomeBenchmark
+{
+    private String parseable;
+    private String unparseable;
+
+    private Outcome<Integer> success;
+    private Outcome<Integer> failure;
+
+    private Function<Integer, Integer> increment;
+    private Function<Integer, Outcome<Integer>> incrementToOutcome;
+
+    private Supplier<Outcome<Integer>> alternative;
+    private MurphysSupplier<Outcome<Integer>> murphysAlternative;
+
+    @Setup
+    public void setup()
+    {
+        parseable = "123";
+        unparseable = "abc";
+
+        success = Outcomes.success(123);
+        failure = Outcomes.genericFailure("Benchmark failure");
+
+        increment = value -> value + 1;
+        incrementToOutcome = value -> Outcomes.success(value + 1);
+
+        alternative = () -> Outcomes.success(246);
+        murphysAlternative = () -> Outcomes.success(246);
+    }
+
+    @Benchmark
+    public Outcome<Integer> attemptSuccess()
+    {
+        return Outcome.attempt(() -> Integer.parseInt(parseable));
+    }
+
+    @Benchmark
+    public Outcome<Integer> attemptFailure()
+    {
+        return Outcome.attempt(() -> Integer.parseInt(unparseable));
+    }
+
+    @Benchmark
+    public Outcome<Integer> mapSuccess()
+    {
+        return success.map(increment);
+    }
+
+    @Benchmark
+    public Outcome<Integer> mapFailure()
+    {
+        return failure.map(increment);
+    }
+
+    @Benchmark
+    public Outcome<Integer> flatMapSuccess()
+    {
+        return success.flatMap(incrementToOutcome);
+    }
+
+    @Benchmark
+    public Outcome<Integer> flatMapFailure()
+    {
+        return failure.flatMap(incrementToOutcome);
+    }
+
+    @Benchmark
+    public Optional<Integer> getPotentialSuccess()
+    {
+        return success.getPotential();
+    }
+
+    @Benchmark
+    public Optional<Integer> getPotentialFailure()
+    {
+        return failure.getPotential();
+    }
+
+    @Benchmark
+    public Outcome<Integer> orElseSuccess()
+    {
+        return success.orElse(alternative);
+    }
+
+    @Benchmark
+    public Outcome<Integer> orElseFailure()
+    {
+        return failure.orElse(alternative);
+    }
+
+    @Benchmark
+    public Outcome<Integer> orElseMurphysSuccess()
+    {
+        return success.orElse(murphysAlternative);
+    }
+
+    @Benchmark
+    public Outcome<Integer> orElseMurphysFailure()
+    {
+        return failure.orElse(murphysAlternative);
+    }
+}
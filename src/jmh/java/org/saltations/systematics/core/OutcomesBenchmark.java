@@ -0,0 +1,127 @@
+package org.saltations.systematics.core;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of every {@link Outcomes} factory method.
+ * <p>
+ * Run with {@code ./gradlew jmh -Pjmh.includes=OutcomesBenchmark}. The GC profiler configured in the build reports
+ * {@code gc.alloc.rate.norm} (bytes/op) next to the average time (ns/op).
+ * </p>
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OutcomesBenchmark
+{
+    private String value;
+    private String title;
+    private String template;
+    private String argument;
+    private Exception cause;
+
+    @Setup
+    public void setup()
+    {
+        value = "value";
+        title = "Benchmark failure";
+        template = "Could not process {0}";
+        argument = "record-42";
+        cause = new IllegalArgumentException("Kaboom!");
+    }
+
+    @Benchmark
+    public Success<Boolean> success()
+    {
+        return Outcomes.success();
+    }
+
+    @Benchmark
+    public Success<String> successWithValue()
+    {
+        return Outcomes.success(value);
+    }
+
+    @Benchmark
+    public Failure<?> genericFailure()
+    {
+        return Outcomes.genericFailure();
+    }
+
+    @Benchmark
+    public Failure<String> genericFailureWithTitle()
+    {
+        return Outcomes.genericFailure(title);
+    }
+
+    @Benchmark
+    public Failure<String> genericFailureWithTemplate()
+    {
+        return Outcomes.genericFailure(title, template, argument);
+    }
+
+    @Benchmark
+    public Failure<String> causedFailure()
+    {
+        return Outcomes.causedFailure(cause);
+    }
+
+    @Benchmark
+    public Failure<String> causedFailureWithTitle()
+    {
+        return Outcomes.causedFailure(cause, title);
+    }
+
+    @Benchmark
+    public Failure<String> causedFailureWithTemplate()
+    {
+        return Outcomes.causedFailure(cause, title, template, argument);
+    }
+
+    @Benchmark
+    public Failure<String> typedFailure()
+    {
+        return Outcomes.typedFailure(BenchmarkFailureType.RECORD_REJECTED, argument);
+    }
+
+    enum BenchmarkFailureType implements FailureType
+    {
+        RECORD_REJECTED("record-rejected", "Could not process {0}");
+
+        private final String title;
+        private final String template;
+
+        BenchmarkFailureType(String title, String template)
+        {
+            this.title = title;
+            this.template = template;
+        }
+
+        @Override
+        public String title()
+        {
+            return title;
+        }
+
+        @Override
+        public String template()
+        {
+            return template;
+        }
+    }
+}
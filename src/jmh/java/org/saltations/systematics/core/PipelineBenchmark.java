@@ -0,0 +1,137 @@
+package org.saltations.systematics.core;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares six stage {@link Pipeline}s against the same six stages chained with {@link Outcome#map(Function)} and
+ * {@link Outcome#flatMap(Function)}.
+ * <p>
+ * The {@code Map} benchmarks use map stages only. The {@code Mixed} benchmarks alternate map stages with flatMap stages
+ * that validate the value, returning a success when it passes. In {@code MixedRejected}, the first flatMap stage
+ * returns a failure, which ends both the chain and the pipeline early.
+ * </p>
+ * <p>
+ * Run with {@code ./gradlew jmh -Pjmh.includes=PipelineBenchmark}. The chained version allocates a {@link Success}
+ * per map stage; {@code gc.alloc.rate.norm} should show the pipeline allocating only the final one, plus whatever the
+ * flatMap stages return themselves.
+ * </p>
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PipelineBenchmark
+{
+    private Outcome<Integer> success;
+    private Outcome<Integer> failure;
+
+    private Function<Integer, Integer> increment;
+    private Function<Integer, Integer> twice;
+    private Function<Integer, Outcome<Integer>> positive;
+    private Function<Integer, Outcome<Integer>> reject;
+
+    private Pipeline<Integer, Integer> pipeline;
+    private Pipeline<Integer, Integer> mixedPipeline;
+    private Pipeline<Integer, Integer> rejectingPipeline;
+
+    @Setup
+    public void setup()
+    {
+        success = Outcomes.success(123);
+        failure = Outcomes.genericFailure("Benchmark failure");
+
+        increment = value -> value + 1;
+        twice = value -> value * 2;
+
+        Outcome<Integer> rejected = Outcomes.genericFailure("Benchmark rejection");
+        positive = value -> value > 0 ? new Success<>(value) : rejected;
+        reject = value -> rejected;
+
+        pipeline = Pipeline.<Integer>start()
+                           .map(increment)
+                           .map(twice)
+                           .map(increment)
+                           .map(twice)
+                           .map(increment)
+                           .map(twice);
+
+        mixedPipeline = Pipeline.<Integer>start()
+                                .map(increment)
+                                .flatMap(positive)
+                                .map(twice)
+                                .flatMap(positive)
+                                .map(increment)
+                                .flatMap(positive);
+
+        rejectingPipeline = Pipeline.<Integer>start()
+                                    .map(increment)
+                                    .flatMap(reject)
+                                    .map(twice)
+                                    .flatMap(positive)
+                                    .map(increment)
+                                    .flatMap(positive);
+    }
+
+    @Benchmark
+    public Outcome<Integer> chainedMapSuccess()
+    {
+        return success.map(increment).map(twice).map(increment).map(twice).map(increment).map(twice);
+    }
+
+    @Benchmark
+    public Outcome<Integer> pipelineSuccess()
+    {
+        return pipeline.apply(success);
+    }
+
+    @Benchmark
+    public Outcome<Integer> chainedMapFailure()
+    {
+        return failure.map(increment).map(twice).map(increment).map(twice).map(increment).map(twice);
+    }
+
+    @Benchmark
+    public Outcome<Integer> pipelineFailure()
+    {
+        return pipeline.apply(failure);
+    }
+
+    @Benchmark
+    public Outcome<Integer> chainedMixedSuccess()
+    {
+        return success.map(increment).flatMap(positive).map(twice).flatMap(positive).map(increment).flatMap(positive);
+    }
+
+    @Benchmark
+    public Outcome<Integer> pipelineMixedSuccess()
+    {
+        return mixedPipeline.apply(success);
+    }
+
+    @Benchmark
+    public Outcome<Integer> chainedMixedRejected()
+    {
+        return success.map(increment).flatMap(reject).map(twice).flatMap(positive).map(increment).flatMap(positive);
+    }
+
+    @Benchmark
+    public Outcome<Integer> pipelineMixedRejected()
+    {
+        return rejectingPipeline.apply(success);
+    }
+}
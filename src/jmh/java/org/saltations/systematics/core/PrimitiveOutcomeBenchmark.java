@@ -0,0 +1,127 @@
+package org.saltations.systematics.core;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares a numeric pipeline over boxed {@link Outcome}s with the same pipeline over {@link IntOutcome},
+ * {@link LongOutcome} and {@link DoubleOutcome}.
+ * <p>
+ * The {@code plain} benchmark is the same arithmetic on bare primitives, the floor for both. In the {@code Pipeline}
+ * benchmarks the intermediate outcomes never leave the method, so escape analysis may remove them. The
+ * {@code EscapingPipeline} benchmarks hand every intermediate outcome to the blackhole, which keeps each step's
+ * allocation: a primitive success per step against a success and a box per step. Read it from
+ * {@code gc.alloc.rate.norm}, which the GC profiler adds to every run.
+ * </p>
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveOutcomeBenchmark
+{
+    private int count;
+    private Outcome<Integer> boxedSuccess;
+    private IntOutcome primitiveSuccess;
+
+    @Setup
+    public void setup()
+    {
+        count = 1_000;
+        boxedSuccess = Outcomes.success(count);
+        primitiveSuccess = IntOutcome.success(count);
+    }
+
+    @Benchmark
+    public double plainPipeline()
+    {
+        var value = count * 3;
+        value = value + 7;
+
+        return value * 1_000L / 2.0;
+    }
+
+    @Benchmark
+    public double boxedPipeline()
+    {
+        return Outcomes.success(count)
+                       .map(value -> value * 3)
+                       .map(value -> value + 7)
+                       .map(value -> value * 1_000L)
+                       .map(value -> value / 2.0)
+                       .get();
+    }
+
+    @Benchmark
+    public double primitivePipeline()
+    {
+        return IntOutcome.success(count)
+                         .map(value -> value * 3)
+                         .map(value -> value + 7)
+                         .mapToLong(value -> value * 1_000L)
+                         .mapToDouble(value -> value / 2.0)
+                         .getAsDouble();
+    }
+
+    @Benchmark
+    public double boxedEscapingPipeline(Blackhole blackhole)
+    {
+        var first = boxedSuccess.map(value -> value * 3);
+        blackhole.consume(first);
+
+        var second = first.map(value -> value + 7);
+        blackhole.consume(second);
+
+        var third = second.map(value -> value * 1_000L);
+        blackhole.consume(third);
+
+        var fourth = third.map(value -> value / 2.0);
+        blackhole.consume(fourth);
+
+        return fourth.get();
+    }
+
+    @Benchmark
+    public double primitiveEscapingPipeline(Blackhole blackhole)
+    {
+        var first = primitiveSuccess.map(value -> value * 3);
+        blackhole.consume(first);
+
+        var second = first.map(value -> value + 7);
+        blackhole.consume(second);
+
+        var third = second.mapToLong(value -> value * 1_000L);
+        blackhole.consume(third);
+
+        var fourth = third.mapToDouble(value -> value / 2.0);
+        blackhole.consume(fourth);
+
+        return fourth.getAsDouble();
+    }
+
+    @Benchmark
+    public Outcome<Integer> boxedMap()
+    {
+        return boxedSuccess.map(value -> value + 1);
+    }
+
+    @Benchmark
+    public IntOutcome primitiveMap()
+    {
+        return primitiveSuccess.map(value -> value + 1);
+    }
+}
@@ -0,0 +1,45 @@
+package org.saltations.systematics.cache;
+
+import org.saltations.systematics.core.Outcome;
+
+/**
+ * A cached outcome together with its expiry and its place in the eviction order.
+ * <p>
+ * The key, outcome and expiry never change and may be read without locking. The links and queue are owned by the
+ * policy the entry belongs to and are only touched under that policy's lock. An entry is {@link #NEW} until the policy
+ * has linked it, which may be after it has become visible to readers of the cache.
+ * </p>
+ */
+
+final class CacheEntry<K, V>
+{
+    static final byte NEW = -1;
+    static final byte WINDOW = 0;
+    static final byte PROBATION = 1;
+    static final byte PROTECTED = 2;
+
+    final K key;
+    final int hash;
+    final Outcome<V> outcome;
+    final long expiresAtNanos;
+    final boolean expires;
+
+    CacheEntry<K, V> prev;
+    CacheEntry<K, V> next;
+    byte queue = NEW;
+    boolean removed;
+
+    CacheEntry(K key, Outcome<V> outcome, long expiresAtNanos, boolean expires)
+    {
+        this.key = key;
+        this.hash = key.hashCode();
+        this.outcome = outcome;
+        this.expiresAtNanos = expiresAtNanos;
+        this.expires = expires;
+    }
+
+    boolean isExpired(long nowNanos)
+    {
+        return expires && nowNanos - expiresAtNanos >= 0;
+    }
+}
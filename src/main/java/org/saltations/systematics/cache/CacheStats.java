@@ -0,0 +1,24 @@
+package org.saltations.systematics.cache;
+
+/**
+ * A point in time view of the counters of an {@link OutcomeCache}.
+ *
+ * @param hits The number of lookups answered from the cache, failures included.
+ * @param negativeHits The number of those hits that returned a cached failure.
+ * @param misses The number of lookups that had to load.
+ * @param evictions The number of outcomes dropped to stay within the maximum size.
+ */
+
+public record CacheStats(long hits, long negativeHits, long misses, long evictions)
+{
+    /**
+     * The share of lookups answered from the cache, or 0 if there were none.
+     */
+
+    public double hitRate()
+    {
+        var lookups = hits + misses;
+
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+}
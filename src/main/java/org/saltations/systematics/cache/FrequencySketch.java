@@ -0,0 +1,86 @@
+package org.saltations.systematics.cache;
+
+/**
+ * A count-min sketch of 4-bit counters that estimates how often a key has been seen recently.
+ * <p>
+ * Each {@code long} holds sixteen counters and every key maps to one counter in each of four rows. The estimate is the
+ * smallest of the four. After ten times the table size additions every counter is halved, so the sketch forgets old
+ * popularity. Not thread safe; callers hold the lock of the owning policy.
+ * </p>
+ */
+
+final class FrequencySketch
+{
+    private static final long[] SEEDS = { 0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L };
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final int MAX_COUNT = 15;
+
+    private final long[] table;
+    private final int mask;
+    private final int sampleSize;
+    private int additions;
+
+    FrequencySketch(long capacity)
+    {
+        var size = Integer.highestOneBit((int) Math.min(Math.max(capacity, 8L), 1 << 26) - 1) << 1;
+
+        this.table = new long[size];
+        this.mask = size - 1;
+        this.sampleSize = 10 * size;
+    }
+
+    int frequency(int hash)
+    {
+        var min = MAX_COUNT;
+
+        for (int row = 0; row < 4; row++) {
+            var h = rehash(hash, row);
+            var count = (int) ((table[h & mask] >>> counterShift(h)) & 0xF);
+            min = Math.min(min, count);
+        }
+
+        return min;
+    }
+
+    void increment(int hash)
+    {
+        var added = false;
+
+        for (int row = 0; row < 4; row++) {
+            var h = rehash(hash, row);
+            var index = h & mask;
+            var shift = counterShift(h);
+
+            if (((table[index] >>> shift) & 0xF) < MAX_COUNT) {
+                table[index] += 1L << shift;
+                added = true;
+            }
+        }
+
+        if (added && ++additions >= sampleSize) {
+            reset();
+        }
+    }
+
+    private void reset()
+    {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+
+        additions /= 2;
+    }
+
+    private static int rehash(int hash, int row)
+    {
+        var h = (hash + SEEDS[row]) * SEEDS[row];
+        h += h >>> 32;
+
+        return (int) h;
+    }
+
+    private static int counterShift(int h)
+    {
+        return (h >>> 28) << 2;
+    }
+}
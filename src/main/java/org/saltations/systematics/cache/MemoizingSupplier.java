@@ -0,0 +1,125 @@
+package org.saltations.systematics.cache;
+
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+import org.saltations.systematics.core.MurphysSupplier;
+import org.saltations.systematics.core.Outcome;
+
+/**
+ * A {@link MurphysSupplier} that attempts another supplier once and hands out the same {@link Outcome} until it
+ * expires.
+ * <p>
+ * Successes and failures have separate time-to-lives, so a failure can be cached briefly to shed load from a struggling
+ * dependency while successes are kept for longer. A {@code null} time-to-live never expires.
+ * </p>
+ * Reading a fresh outcome is a volatile read and, when a time-to-live is set, a clock read. When the outcome is missing
+ * or stale, only one thread attempts the delegate and the others wait for and share its outcome.
+ *
+ * @param <T> The type of the supplied value.
+ */
+
+public final class MemoizingSupplier<T> implements MurphysSupplier<Outcome<T>>
+{
+    private final MurphysSupplier<T> delegate;
+    private final long successTtlNanos;
+    private final long failureTtlNanos;
+    private final LongSupplier nanoClock;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile Entry<T> entry;
+
+    MemoizingSupplier(MurphysSupplier<T> delegate, Duration successTtl, Duration failureTtl, LongSupplier nanoClock)
+    {
+        this.delegate = delegate;
+        this.successTtlNanos = toNanos(successTtl);
+        this.failureTtlNanos = toNanos(failureTtl);
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Memoize the first outcome of the supplier forever.
+     */
+
+    public static <T> MemoizingSupplier<T> of(MurphysSupplier<T> delegate)
+    {
+        return new MemoizingSupplier<>(delegate, null, null, System::nanoTime);
+    }
+
+    /**
+     * Memoize the outcome of the supplier with separate time-to-lives for successes and failures.
+     *
+     * @param delegate The supplier being memoized.
+     * @param successTtl How long a success is kept, or {@code null} for forever.
+     * @param failureTtl How long a failure is kept, or {@code null} for forever.
+     */
+
+    public static <T> MemoizingSupplier<T> expiring(MurphysSupplier<T> delegate, Duration successTtl, Duration failureTtl)
+    {
+        return new MemoizingSupplier<>(delegate, successTtl, failureTtl, System::nanoTime);
+    }
+
+    /**
+     * Get the memoized outcome, attempting the delegate if there is none or it has expired. Never throws.
+     */
+
+    @Override
+    public Outcome<T> supply()
+    {
+        var current = entry;
+
+        if (current != null && isFresh(current)) {
+            return current.outcome;
+        }
+
+        lock.lock();
+
+        try {
+            current = entry;
+
+            if (current != null && isFresh(current)) {
+                return current.outcome;
+            }
+
+            var outcome = Outcome.attempt(delegate);
+            var ttl = outcome.isSuccess() ? successTtlNanos : failureTtlNanos;
+
+            entry = new Entry<>(outcome, ttl == Long.MAX_VALUE ? 0L : nanoClock.getAsLong() + ttl, ttl == Long.MAX_VALUE);
+
+            return outcome;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Forget the memoized outcome so the next call attempts the delegate again.
+     */
+
+    public void invalidate()
+    {
+        entry = null;
+    }
+
+    private boolean isFresh(Entry<T> current)
+    {
+        return current.forever || current.expiresAtNanos - nanoClock.getAsLong() > 0;
+    }
+
+    private static long toNanos(Duration ttl)
+    {
+        if (ttl == null) {
+            return Long.MAX_VALUE;
+        }
+
+        if (ttl.isNegative()) {
+            throw new IllegalArgumentException("Time to live must not be negative but was " + ttl);
+        }
+
+        return ttl.toNanos();
+    }
+
+    private record Entry<T>(Outcome<T> outcome, long expiresAtNanos, boolean forever) {}
+}
@@ -0,0 +1,223 @@
+package org.saltations.systematics.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import org.saltations.systematics.core.Outcome;
+import org.saltations.systematics.core.Outcomes;
+
+/**
+ * A bounded in-process cache of the {@link Outcome}s produced by a loader.
+ * <p>
+ * Failures are cached as well as successes, so a lookup that keeps failing, such as an unknown key, does not go back
+ * to the loader every time. Successes and failures are kept by two separate {@link TinyLfuPolicy Window TinyLFU}
+ * policies that share the maximum size, so a burst of failures can only push out other failures and never the
+ * successes. How long failures are kept can be set per {@link org.saltations.systematics.core.FailureType}.
+ * </p>
+ * <p>
+ * Lookups read a {@link ConcurrentHashMap} without locking and record the access only if the policy lock is free.
+ * Concurrent misses for the same key are collapsed by a {@link SingleFlight}, so the loader runs once per key at a time.
+ * </p>
+ *
+ * @param <K> The type of the keys.
+ * @param <V> The type of the success values.
+ */
+
+public final class OutcomeCache<K, V>
+{
+    private final Function<? super K, ? extends Outcome<V>> loader;
+    private final OutcomeCacheConfig config;
+    private final LongSupplier nanoClock;
+
+    private final ConcurrentHashMap<K, CacheEntry<K, V>> entries = new ConcurrentHashMap<>();
+    private final TinyLfuPolicy<K, V> successes;
+    private final TinyLfuPolicy<K, V> failures;
+    private final SingleFlight<K, V> flight = new SingleFlight<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder negativeHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public OutcomeCache(Function<? super K, ? extends Outcome<V>> loader, OutcomeCacheConfig config)
+    {
+        this(loader, config, System::nanoTime);
+    }
+
+    OutcomeCache(Function<? super K, ? extends Outcome<V>> loader, OutcomeCacheConfig config, LongSupplier nanoClock)
+    {
+        this.loader = loader;
+        this.config = config;
+        this.nanoClock = nanoClock;
+
+        var failureCapacity = Math.max(1L, (long) (config.maximumSize() * config.failureShare()));
+
+        this.successes = new TinyLfuPolicy<>(config.maximumSize() - failureCapacity);
+        this.failures = new TinyLfuPolicy<>(failureCapacity);
+    }
+
+    /**
+     * Get the outcome for the key, loading it if it is not cached or has expired.
+     *
+     * @param key The key.
+     * @return the cached or freshly loaded outcome.
+     */
+
+    public Outcome<V> get(K key)
+    {
+        var cached = lookup(key);
+
+        if (cached != null) {
+            return cached;
+        }
+
+        misses.increment();
+
+        return flight.load(key, () -> load(key));
+    }
+
+    /**
+     * Get the outcome for the key if it is cached and has not expired. Never loads.
+     */
+
+    public Optional<Outcome<V>> getIfPresent(K key)
+    {
+        return Optional.ofNullable(lookup(key));
+    }
+
+    /**
+     * Drop the outcome for the key.
+     */
+
+    public void invalidate(K key)
+    {
+        var entry = entries.remove(key);
+
+        if (entry != null) {
+            policyOf(entry).remove(entry);
+        }
+    }
+
+    /**
+     * Drop every outcome.
+     */
+
+    public void invalidateAll()
+    {
+        // Entry by entry, so each removal from the map is paired with its own removal from the policy
+        for (var entry : entries.values()) {
+            if (entries.remove(entry.key, entry)) {
+                policyOf(entry).remove(entry);
+            }
+        }
+    }
+
+    /**
+     * The number of cached outcomes, including any that have expired but not been looked up since.
+     */
+
+    public long size()
+    {
+        return entries.size();
+    }
+
+    /**
+     * Take a snapshot of the counters.
+     */
+
+    public CacheStats stats()
+    {
+        return new CacheStats(hits.sum(), negativeHits.sum(), misses.sum(), evictions.sum());
+    }
+
+    /**
+     * Check the bookkeeping of both policies. For tests.
+     */
+
+    boolean isConsistent()
+    {
+        return successes.isConsistent() && failures.isConsistent();
+    }
+
+    private Outcome<V> lookup(K key)
+    {
+        var entry = entries.get(key);
+
+        if (entry == null) {
+            return null;
+        }
+
+        if (entry.expires && entry.isExpired(nanoClock.getAsLong())) {
+            if (entries.remove(key, entry)) {
+                policyOf(entry).remove(entry);
+            }
+            return null;
+        }
+
+        hits.increment();
+
+        if (entry.outcome.isFailure()) {
+            negativeHits.increment();
+        }
+
+        policyOf(entry).recordAccess(entry);
+
+        return entry.outcome;
+    }
+
+    private Outcome<V> load(K key)
+    {
+        Outcome<V> outcome;
+
+        try {
+            outcome = loader.apply(key);
+        }
+        catch (RuntimeException e) {
+            outcome = Outcomes.causedFailure(e);
+        }
+
+        if (outcome == null) {
+            throw new NullPointerException("Loader returned null for " + key);
+        }
+
+        store(key, outcome);
+
+        return outcome;
+    }
+
+    private void store(K key, Outcome<V> outcome)
+    {
+        var ttl = outcome.isSuccess() ? config.successTtl() : config.failureTtl(outcome.asFailure().type());
+
+        if (Duration.ZERO.equals(ttl)) {
+            return;
+        }
+
+        var entry = ttl == null ? new CacheEntry<>(key, outcome, 0L, false) : new CacheEntry<>(key, outcome, nanoClock.getAsLong() + ttl.toNanos(), true);
+        var replaced = entries.put(key, entry);
+
+        if (replaced != null) {
+            policyOf(replaced).remove(replaced);
+        }
+
+        var evicted = new ArrayList<CacheEntry<K, V>>(1);
+
+        policyOf(entry).add(entry, evicted);
+
+        for (var victim : evicted) {
+            if (entries.remove(victim.key, victim)) {
+                evictions.increment();
+            }
+        }
+    }
+
+    private TinyLfuPolicy<K, V> policyOf(CacheEntry<K, V> entry)
+    {
+        return entry.outcome.isSuccess() ? successes : failures;
+    }
+}
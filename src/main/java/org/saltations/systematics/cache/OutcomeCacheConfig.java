@@ -0,0 +1,108 @@
+package org.saltations.systematics.cache;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.saltations.systematics.core.FailureType;
+
+/**
+ * The settings of an {@link OutcomeCache}.
+ * <p>
+ * A {@code null} time-to-live never expires and a zero time-to-live means the outcome is not cached at all. The
+ * failure time-to-live for a type that has no rule of its own is the default failure time-to-live.
+ * </p>
+ *
+ * @param maximumSize The maximum number of cached outcomes, successes and failures together.
+ * @param failureShare The part of the maximum size, between 0 and 1, that failures may take up.
+ * @param successTtl How long successes are kept.
+ * @param failureTtl How long failures are kept unless their type has a rule of its own.
+ * @param failureTtlsByType How long failures of particular types are kept.
+ */
+
+public record OutcomeCacheConfig(long maximumSize, double failureShare, Duration successTtl, Duration failureTtl, Map<FailureType, Duration> failureTtlsByType)
+{
+    public OutcomeCacheConfig
+    {
+        if (maximumSize < 2) {
+            throw new IllegalArgumentException("Maximum size must be at least 2 but was " + maximumSize);
+        }
+
+        if (failureShare <= 0.0 || failureShare >= 1.0) {
+            throw new IllegalArgumentException("Failure share must be in (0, 1) but was " + failureShare);
+        }
+
+        requireNotNegative(successTtl);
+        requireNotNegative(failureTtl);
+
+        if (failureTtlsByType == null) {
+            throw new IllegalArgumentException("Failure time to live rules cannot be null");
+        }
+
+        // Not Map.copyOf, which rejects the null time-to-lives that mean never expire
+        var rules = new HashMap<FailureType, Duration>(failureTtlsByType);
+
+        if (rules.containsKey(null)) {
+            throw new IllegalArgumentException("Failure type cannot be null");
+        }
+
+        rules.values().forEach(OutcomeCacheConfig::requireNotNegative);
+
+        failureTtlsByType = Collections.unmodifiableMap(rules);
+    }
+
+    /**
+     * Holds up to 10,000 outcomes, a fifth of which may be failures. Successes never expire, failures are kept for
+     * 30 seconds.
+     */
+
+    public static OutcomeCacheConfig defaults()
+    {
+        return new OutcomeCacheConfig(10_000, 0.2, null, Duration.ofSeconds(30), Map.of());
+    }
+
+    public OutcomeCacheConfig withMaximumSize(long maximumSize)
+    {
+        return new OutcomeCacheConfig(maximumSize, failureShare, successTtl, failureTtl, failureTtlsByType);
+    }
+
+    public OutcomeCacheConfig withFailureShare(double failureShare)
+    {
+        return new OutcomeCacheConfig(maximumSize, failureShare, successTtl, failureTtl, failureTtlsByType);
+    }
+
+    public OutcomeCacheConfig withSuccessTtl(Duration successTtl)
+    {
+        return new OutcomeCacheConfig(maximumSize, failureShare, successTtl, failureTtl, failureTtlsByType);
+    }
+
+    public OutcomeCacheConfig withFailureTtl(Duration failureTtl)
+    {
+        return new OutcomeCacheConfig(maximumSize, failureShare, successTtl, failureTtl, failureTtlsByType);
+    }
+
+    public OutcomeCacheConfig withFailureTtl(FailureType type, Duration ttl)
+    {
+        var rules = new HashMap<>(failureTtlsByType);
+        rules.put(type, ttl);
+
+        return new OutcomeCacheConfig(maximumSize, failureShare, successTtl, failureTtl, rules);
+    }
+
+    /**
+     * How long a failure of the given type is kept.
+     */
+
+    public Duration failureTtl(FailureType type)
+    {
+        return failureTtlsByType.getOrDefault(type, failureTtl);
+    }
+
+    private static void requireNotNegative(Duration ttl)
+    {
+        if (ttl != null && ttl.isNegative()) {
+            throw new IllegalArgumentException("Time to live must not be negative but was " + ttl);
+        }
+    }
+}
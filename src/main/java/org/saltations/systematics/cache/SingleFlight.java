@@ -0,0 +1,95 @@
+package org.saltations.systematics.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.saltations.systematics.core.MurphysSupplier;
+import org.saltations.systematics.core.Outcome;
+
+/**
+ * Collapses concurrent attempts for the same key into one.
+ * <p>
+ * The first caller for a key attempts the supplier on its own thread. Callers that arrive for the same key while that
+ * attempt is running wait for it and get the very same {@link Outcome}, failures included. Once the attempt has
+ * finished the key is forgotten, so a later call attempts again. Nothing is cached; combine with a
+ * {@link MemoizingSupplier} or an outcome cache for that.
+ * </p>
+ *
+ * @param <K> The type of the keys.
+ * @param <T> The type of the supplied values.
+ */
+
+public final class SingleFlight<K, T>
+{
+    private final ConcurrentHashMap<K, CompletableFuture<Outcome<T>>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Attempt the supplier for the key, or wait for the attempt already running for it.
+     *
+     * @param key The key identifying the work.
+     * @param supplier The work to do if no attempt for the key is running.
+     * @return the outcome of the attempt. Never throws.
+     */
+
+    public Outcome<T> attempt(K key, MurphysSupplier<? extends T> supplier)
+    {
+        return load(key, () -> Outcome.<T>attempt(supplier::supply));
+    }
+
+    /**
+     * Run the loader for the key, or wait for the load already running for it.
+     *
+     * @param key The key identifying the work.
+     * @param loader The work to do if no load for the key is running. It reports problems as a failed {@link Outcome}.
+     * @return the outcome of the load.
+     */
+
+    public Outcome<T> load(K key, Supplier<? extends Outcome<T>> loader)
+    {
+        var existing = inFlight.get(key);
+
+        if (existing != null) {
+            return existing.join();
+        }
+
+        var mine = new CompletableFuture<Outcome<T>>();
+
+        existing = inFlight.putIfAbsent(key, mine);
+
+        if (existing != null) {
+            return existing.join();
+        }
+
+        try {
+            Outcome<T> outcome = loader.get();
+            mine.complete(outcome);
+            return outcome;
+        }
+        catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        }
+        finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * A supplier that attempts through this single flight under the given key.
+     */
+
+    public MurphysSupplier<Outcome<T>> supplier(K key, MurphysSupplier<? extends T> supplier)
+    {
+        return () -> attempt(key, supplier);
+    }
+
+    /**
+     * The number of keys with an attempt running.
+     */
+
+    public int inFlight()
+    {
+        return inFlight.size();
+    }
+}
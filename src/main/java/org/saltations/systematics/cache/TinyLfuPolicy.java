@@ -0,0 +1,251 @@
+package org.saltations.systematics.cache;
+
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A size-bounded Window TinyLFU eviction policy.
+ * <p>
+ * New entries go into a small LRU window (1% of the capacity). Entries pushed out of the window are admitted to the
+ * main space only if the frequency sketch says they are used more often than the entry they would displace; otherwise
+ * they are evicted themselves. The main space is a segmented LRU: entries start on probation and move to the protected
+ * segment (80% of the main space) when read again.
+ * </p>
+ * All bookkeeping happens under one lock. Reads record their access with {@link ReentrantLock#tryLock()} and skip the
+ * bookkeeping when the lock is busy, so readers never wait on each other; the sketch and ordering only need to be
+ * roughly right.
+ */
+
+final class TinyLfuPolicy<K, V>
+{
+    private final ReentrantLock lock = new ReentrantLock();
+    private final FrequencySketch sketch;
+    private final long windowMax;
+    private final long mainMax;
+    private final long protectedMax;
+
+    private final Queue<K, V> window = new Queue<>();
+    private final Queue<K, V> probation = new Queue<>();
+    private final Queue<K, V> protectedQueue = new Queue<>();
+
+    TinyLfuPolicy(long capacity)
+    {
+        this.sketch = new FrequencySketch(capacity);
+        this.windowMax = Math.max(1L, capacity / 100);
+        this.mainMax = capacity - windowMax;
+        this.protectedMax = mainMax - mainMax / 5;
+    }
+
+    /**
+     * Record a read of the entry, unless another thread is busy with the policy.
+     */
+
+    void recordAccess(CacheEntry<K, V> entry)
+    {
+        if (!lock.tryLock()) {
+            return;
+        }
+
+        try {
+            sketch.increment(entry.hash);
+
+            // Not linked yet, or no longer linked
+            if (entry.removed || entry.queue == CacheEntry.NEW) {
+                return;
+            }
+
+            switch (entry.queue) {
+                case CacheEntry.WINDOW -> window.moveToTail(entry);
+                case CacheEntry.PROBATION -> {
+                    probation.unlink(entry);
+                    entry.queue = CacheEntry.PROTECTED;
+                    protectedQueue.linkTail(entry);
+
+                    if (protectedQueue.size > protectedMax) {
+                        var demoted = protectedQueue.head;
+                        protectedQueue.unlink(demoted);
+                        demoted.queue = CacheEntry.PROBATION;
+                        probation.linkTail(demoted);
+                    }
+                }
+                default -> protectedQueue.moveToTail(entry);
+            }
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Add a new entry, collecting the entries evicted to make room for it.
+     */
+
+    void add(CacheEntry<K, V> entry, List<CacheEntry<K, V>> evicted)
+    {
+        lock.lock();
+
+        try {
+            sketch.increment(entry.hash);
+
+            // Lost a race with a removal of the same entry
+            if (entry.removed) {
+                return;
+            }
+
+            entry.queue = CacheEntry.WINDOW;
+            window.linkTail(entry);
+
+            if (window.size <= windowMax) {
+                return;
+            }
+
+            var candidate = window.head;
+            window.unlink(candidate);
+            candidate.queue = CacheEntry.PROBATION;
+
+            if (probation.size + protectedQueue.size < mainMax) {
+                probation.linkTail(candidate);
+                return;
+            }
+
+            var victim = probation.head != null ? probation.head : protectedQueue.head;
+
+            if (victim != null && sketch.frequency(candidate.hash) > sketch.frequency(victim.hash)) {
+                evict(victim, evicted);
+                probation.linkTail(candidate);
+            }
+            else {
+                candidate.removed = true;
+                evicted.add(candidate);
+            }
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Remove the entry if it is still held by the policy.
+     */
+
+    void remove(CacheEntry<K, V> entry)
+    {
+        lock.lock();
+
+        try {
+            if (!entry.removed && entry.queue != CacheEntry.NEW) {
+                queueOf(entry).unlink(entry);
+            }
+
+            entry.removed = true;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Check that every queue is a well formed list whose length matches its size. For tests.
+     */
+
+    boolean isConsistent()
+    {
+        lock.lock();
+
+        try {
+            return window.isConsistent() && probation.isConsistent() && protectedQueue.isConsistent();
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    private void evict(CacheEntry<K, V> victim, List<CacheEntry<K, V>> evicted)
+    {
+        queueOf(victim).unlink(victim);
+        victim.removed = true;
+        evicted.add(victim);
+    }
+
+    private Queue<K, V> queueOf(CacheEntry<K, V> entry)
+    {
+        return switch (entry.queue) {
+            case CacheEntry.WINDOW -> window;
+            case CacheEntry.PROBATION -> probation;
+            default -> protectedQueue;
+        };
+    }
+
+    /**
+     * An intrusive doubly linked list of entries, least recently used first.
+     */
+
+    private static final class Queue<K, V>
+    {
+        CacheEntry<K, V> head;
+        CacheEntry<K, V> tail;
+        long size;
+
+        void linkTail(CacheEntry<K, V> entry)
+        {
+            entry.prev = tail;
+            entry.next = null;
+
+            if (tail == null) {
+                head = entry;
+            }
+            else {
+                tail.next = entry;
+            }
+
+            tail = entry;
+            size++;
+        }
+
+        void unlink(CacheEntry<K, V> entry)
+        {
+            if (entry.prev == null) {
+                head = entry.next;
+            }
+            else {
+                entry.prev.next = entry.next;
+            }
+
+            if (entry.next == null) {
+                tail = entry.prev;
+            }
+            else {
+                entry.next.prev = entry.prev;
+            }
+
+            entry.prev = null;
+            entry.next = null;
+            size--;
+        }
+
+        boolean isConsistent()
+        {
+            long count = 0;
+            CacheEntry<K, V> previous = null;
+
+            for (var entry = head; entry != null; entry = entry.next) {
+                if (entry.prev != previous || entry.removed || ++count > size) {
+                    return false;
+                }
+
+                previous = entry;
+            }
+
+            return count == size && tail == previous;
+        }
+
+        void moveToTail(CacheEntry<K, V> entry)
+        {
+            if (tail != entry) {
+                unlink(entry);
+                linkTail(entry);
+            }
+        }
+
+    }
+}
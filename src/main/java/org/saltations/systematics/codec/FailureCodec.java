@@ -0,0 +1,110 @@
+package org.saltations.systematics.codec;
+
+import java.nio.ByteBuffer;
+
+import org.saltations.systematics.core.Failure;
+import org.saltations.systematics.core.FailureType;
+
+/**
+ * Writes and reads {@link Failure}s.
+ * <p>
+ * A failure is written as its type id from the {@link FailureTypeTable} (types missing from the table are written as
+ * id 0 followed by their title and template), then its title and rendered detail, then a summary of its cause: the
+ * class name and message, or a {@code null} class name if there is no cause. Decoded causes are
+ * {@link RemoteCauseException}s, without stack traces.
+ * </p>
+ */
+
+public final class FailureCodec
+{
+    private final FailureTypeTable types;
+
+    public FailureCodec(FailureTypeTable types)
+    {
+        this.types = types;
+    }
+
+    /**
+     * Write the failure to the buffer.
+     */
+
+    public void encode(Failure<?> failure, ByteBuffer out)
+    {
+        var type = failure.type();
+        var id = types.idOf(type);
+
+        Wire.putVarInt(out, id);
+
+        if (id == 0) {
+            Wire.putString(out, type.title());
+            Wire.putString(out, type.template());
+        }
+
+        Wire.putString(out, failure.title());
+        Wire.putString(out, failure.detail());
+
+        var cause = failure.cause();
+
+        if (cause == null) {
+            Wire.putString(out, null);
+        }
+        else {
+            Wire.putString(out, causeClassName(cause));
+            Wire.putString(out, cause.getMessage());
+        }
+    }
+
+    /**
+     * The number of bytes {@link #encode(Failure, ByteBuffer)} writes for the failure.
+     */
+
+    public int encodedSize(Failure<?> failure)
+    {
+        var type = failure.type();
+        var id = types.idOf(type);
+        var size = Wire.varIntSize(id) + Wire.stringSize(failure.title()) + Wire.stringSize(failure.detail());
+
+        if (id == 0) {
+            size += Wire.stringSize(type.title()) + Wire.stringSize(type.template());
+        }
+
+        var cause = failure.cause();
+
+        if (cause == null) {
+            size += Wire.stringSize(null);
+        }
+        else {
+            size += Wire.stringSize(causeClassName(cause)) + Wire.stringSize(cause.getMessage());
+        }
+
+        return size;
+    }
+
+    /**
+     * Read a failure from the buffer.
+     *
+     * @param <V> The success value type of the failure.
+     */
+
+    public <V> Failure<V> decode(ByteBuffer in)
+    {
+        var id = Wire.getVarInt(in);
+        FailureType type = id == 0 ? new WireFailureType(Wire.getString(in), Wire.getString(in)) : types.typeOf(id);
+
+        var title = Wire.getString(in);
+        var detail = Wire.getString(in);
+        var causeClassName = Wire.getString(in);
+        var cause = causeClassName == null ? null : new RemoteCauseException(causeClassName, Wire.getString(in));
+
+        return new Failure<>(type, title, detail, cause);
+    }
+
+    /**
+     * The class name written for the cause. A decoded cause keeps the name of the original.
+     */
+
+    static String causeClassName(Exception cause)
+    {
+        return cause instanceof RemoteCauseException remote ? remote.causeClassName() : cause.getClass().getName();
+    }
+}
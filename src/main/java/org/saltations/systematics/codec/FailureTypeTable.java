@@ -0,0 +1,111 @@
+package org.saltations.systematics.codec;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.saltations.systematics.core.BasicFailureType;
+import org.saltations.systematics.core.FailureType;
+
+/**
+ * Assigns small integer ids to failure types so the wire carries an id rather than the type's name.
+ * <p>
+ * Ids start at 1 and follow the order in which types were added, so both ends of a connection must build their tables
+ * the same way; add new types at the end to stay compatible. Id 0 is reserved for types that are not in the table,
+ * which are written out in full instead. Tables are immutable and thread safe.
+ * </p>
+ */
+
+public final class FailureTypeTable
+{
+    private final FailureType[] types;
+    private final Map<FailureType, Integer> ids;
+
+    private FailureTypeTable(FailureType[] types)
+    {
+        this.types = types;
+        this.ids = new HashMap<>(types.length * 2);
+
+        for (int i = 0; i < types.length; i++) {
+            if (ids.putIfAbsent(types[i], i + 1) != null) {
+                throw new IllegalArgumentException("Failure type " + types[i] + " appears more than once");
+            }
+        }
+    }
+
+    /**
+     * A table of the given types, in order.
+     */
+
+    public static FailureTypeTable of(FailureType... types)
+    {
+        return new FailureTypeTable(types.clone());
+    }
+
+    /**
+     * A table of the {@link BasicFailureType}s.
+     */
+
+    public static FailureTypeTable basic()
+    {
+        return of(BasicFailureType.values());
+    }
+
+    /**
+     * Returns a copy of this table with all the constants of the enum added at the end, in ordinal order.
+     */
+
+    public <E extends Enum<E> & FailureType> FailureTypeTable with(Class<E> enumClass)
+    {
+        return with(enumClass.getEnumConstants());
+    }
+
+    /**
+     * Returns a copy of this table with the types added at the end.
+     */
+
+    public FailureTypeTable with(FailureType... more)
+    {
+        List<FailureType> all = new ArrayList<>(Arrays.asList(types));
+        all.addAll(Arrays.asList(more));
+
+        return new FailureTypeTable(all.toArray(new FailureType[0]));
+    }
+
+    /**
+     * The id of the type, or 0 if the type is not in the table.
+     */
+
+    public int idOf(FailureType type)
+    {
+        var id = ids.get(type);
+
+        return id == null ? 0 : id;
+    }
+
+    /**
+     * The type with the id.
+     *
+     * @throws IllegalArgumentException if no type has the id.
+     */
+
+    public FailureType typeOf(int id)
+    {
+        if (id < 1 || id > types.length) {
+            throw new IllegalArgumentException("Unknown failure type id " + id);
+        }
+
+        return types[id - 1];
+    }
+
+    /**
+     * The number of types in the table.
+     */
+
+    public int size()
+    {
+        return types.length;
+    }
+}
@@ -0,0 +1,70 @@
+package org.saltations.systematics.codec;
+
+import java.nio.ByteBuffer;
+
+import org.saltations.systematics.core.Failure;
+import org.saltations.systematics.core.Outcome;
+import org.saltations.systematics.core.Success;
+
+/**
+ * A compact binary encoding of {@link Outcome}s, written straight into and read straight out of a {@link ByteBuffer}.
+ * <p>
+ * An outcome is a tag byte, 0 for a success and 1 for a failure, followed by the success value as written by the
+ * {@link ValueCodec} or the failure as written by the {@link FailureCodec}. Strings are UTF-8 encoded from their
+ * characters directly into the buffer behind a varint length (see {@link Wire}), so encoding makes no intermediate
+ * strings or byte arrays. Heap and direct buffers both work.
+ * </p>
+ * Codecs are immutable and thread safe; buffers are not, so each thread needs its own.
+ *
+ * @param <V> The type of the success value.
+ */
+
+public final class OutcomeCodec<V>
+{
+    private static final byte SUCCESS = 0;
+    private static final byte FAILURE = 1;
+
+    private final ValueCodec<V> values;
+    private final FailureCodec failures;
+
+    public OutcomeCodec(FailureTypeTable types, ValueCodec<V> values)
+    {
+        this.values = values;
+        this.failures = new FailureCodec(types);
+    }
+
+    /**
+     * Write the outcome at the buffer's position.
+     *
+     * @throws java.nio.BufferOverflowException if the buffer runs out of room. The position is then undefined.
+     */
+
+    public void encode(Outcome<V> outcome, ByteBuffer out)
+    {
+        if (outcome instanceof Failure<V> failure) {
+            out.put(FAILURE);
+            failures.encode(failure, out);
+        }
+        else {
+            out.put(SUCCESS);
+            values.encode(outcome.get(), out);
+        }
+    }
+
+    /**
+     * Read an outcome from the buffer's position.
+     *
+     * @throws IllegalArgumentException if the bytes are not an encoded outcome.
+     */
+
+    public Outcome<V> decode(ByteBuffer in)
+    {
+        var tag = in.get();
+
+        return switch (tag) {
+            case SUCCESS -> new Success<>(values.decode(in));
+            case FAILURE -> failures.decode(in);
+            default -> throw new IllegalArgumentException("Unknown outcome tag " + tag);
+        };
+    }
+}
@@ -0,0 +1,42 @@
+package org.saltations.systematics.codec;
+
+import org.saltations.systematics.core.CapturePolicy;
+import org.saltations.systematics.core.LightweightException;
+
+/**
+ * Stands in for the cause of a decoded failure.
+ * <p>
+ * Only the class name and message of the original cause travel on the wire. This exception carries them without a
+ * stack trace, since a trace captured while decoding would only point at the decoder.
+ * </p>
+ */
+
+public class RemoteCauseException extends LightweightException
+{
+    private static final long serialVersionUID = 1L;
+
+    private final String causeClassName;
+
+    public RemoteCauseException(String causeClassName, String message)
+    {
+        super(message, null, CapturePolicy.NONE);
+        this.causeClassName = causeClassName;
+    }
+
+    /**
+     * The fully qualified class name of the original cause.
+     */
+
+    public String causeClassName()
+    {
+        return causeClassName;
+    }
+
+    @Override
+    public String toString()
+    {
+        var message = getLocalizedMessage();
+
+        return message == null ? causeClassName : causeClassName + ": " + message;
+    }
+}
@@ -0,0 +1,53 @@
+package org.saltations.systematics.codec;
+
+import java.nio.ByteBuffer;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Writes and reads the success value of an outcome.
+ *
+ * @param <V> The type of the value.
+ */
+
+public interface ValueCodec<V>
+{
+    ValueCodec<String> STRING = of((value, out) -> Wire.putString(out, value), Wire::getString);
+    ValueCodec<Integer> INTEGER = of((value, out) -> out.putInt(value), ByteBuffer::getInt);
+    ValueCodec<Long> LONG = of((value, out) -> out.putLong(value), ByteBuffer::getLong);
+    ValueCodec<Boolean> BOOLEAN = of((value, out) -> out.put(value ? (byte) 1 : (byte) 0), in -> in.get() != 0);
+
+    /**
+     * Write the value to the buffer.
+     */
+
+    void encode(V value, ByteBuffer out);
+
+    /**
+     * Read a value from the buffer.
+     */
+
+    V decode(ByteBuffer in);
+
+    /**
+     * A codec made of a writing and a reading function.
+     */
+
+    static <V> ValueCodec<V> of(BiConsumer<? super V, ByteBuffer> encoder, Function<ByteBuffer, ? extends V> decoder)
+    {
+        return new ValueCodec<>()
+        {
+            @Override
+            public void encode(V value, ByteBuffer out)
+            {
+                encoder.accept(value, out);
+            }
+
+            @Override
+            public V decode(ByteBuffer in)
+            {
+                return decoder.apply(in);
+            }
+        };
+    }
+}
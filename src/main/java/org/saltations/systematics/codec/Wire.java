@@ -0,0 +1,209 @@
+package org.saltations.systematics.codec;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Low level helpers for reading and writing the wire format.
+ * <p>
+ * Integers are written as unsigned LEB128 varints: seven bits per byte, low bits first, with the high bit set on every
+ * byte but the last. Strings are written as a varint of their UTF-8 length plus one (zero stands for {@code null})
+ * followed by the UTF-8 bytes, which are encoded straight from the characters into the buffer with no intermediate
+ * byte array.
+ * </p>
+ * All methods work on heap and direct buffers alike and advance the buffer position. Writing past the limit throws
+ * {@link java.nio.BufferOverflowException}, reading past it {@link java.nio.BufferUnderflowException}.
+ */
+
+public final class Wire
+{
+    private Wire()
+    {
+    }
+
+    /**
+     * Write a non-negative int as a varint.
+     */
+
+    public static void putVarInt(ByteBuffer out, int value)
+    {
+        while ((value & ~0x7F) != 0) {
+            out.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+
+        out.put((byte) value);
+    }
+
+    /**
+     * Read a varint written by {@link #putVarInt(ByteBuffer, int)}.
+     */
+
+    public static int getVarInt(ByteBuffer in)
+    {
+        var value = 0;
+
+        for (int shift = 0; shift < 32; shift += 7) {
+            var b = in.get();
+            value |= (b & 0x7F) << shift;
+
+            if (b >= 0) {
+                return value;
+            }
+        }
+
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    /**
+     * The number of bytes {@link #putVarInt(ByteBuffer, int)} writes for the value.
+     */
+
+    public static int varIntSize(int value)
+    {
+        return value == 0 ? 1 : (38 - Integer.numberOfLeadingZeros(value)) / 7;
+    }
+
+    /**
+     * The number of bytes the characters take up in UTF-8. Unpaired surrogates count as the one byte {@code '?'}.
+     */
+
+    public static int utf8Length(CharSequence text)
+    {
+        var length = text.length();
+        var bytes = 0;
+
+        for (int i = 0; i < length; i++) {
+            var c = text.charAt(i);
+
+            if (c < 0x80) {
+                bytes += 1;
+            }
+            else if (c < 0x800) {
+                bytes += 2;
+            }
+            else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(text.charAt(i + 1))) {
+                bytes += 4;
+                i++;
+            }
+            else if (Character.isSurrogate(c)) {
+                bytes += 1;
+            }
+            else {
+                bytes += 3;
+            }
+        }
+
+        return bytes;
+    }
+
+    /**
+     * Write a string, which may be {@code null}.
+     */
+
+    public static void putString(ByteBuffer out, CharSequence text)
+    {
+        if (text == null) {
+            putVarInt(out, 0);
+            return;
+        }
+
+        putVarInt(out, utf8Length(text) + 1);
+
+        var length = text.length();
+
+        for (int i = 0; i < length; i++) {
+            var c = text.charAt(i);
+
+            if (c < 0x80) {
+                out.put((byte) c);
+            }
+            else if (c < 0x800) {
+                out.put((byte) (0xC0 | (c >> 6)));
+                out.put((byte) (0x80 | (c & 0x3F)));
+            }
+            else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(text.charAt(i + 1))) {
+                var codePoint = Character.toCodePoint(c, text.charAt(++i));
+                out.put((byte) (0xF0 | (codePoint >> 18)));
+                out.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                out.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                out.put((byte) (0x80 | (codePoint & 0x3F)));
+            }
+            else if (Character.isSurrogate(c)) {
+                out.put((byte) '?');
+            }
+            else {
+                out.put((byte) (0xE0 | (c >> 12)));
+                out.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                out.put((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+    }
+
+    /**
+     * The number of bytes {@link #putString(ByteBuffer, CharSequence)} writes for the text.
+     */
+
+    public static int stringSize(CharSequence text)
+    {
+        if (text == null) {
+            return 1;
+        }
+
+        var utf8 = utf8Length(text);
+
+        return varIntSize(utf8 + 1) + utf8;
+    }
+
+    /**
+     * Read a string written by {@link #putString(ByteBuffer, CharSequence)}.
+     */
+
+    public static String getString(ByteBuffer in)
+    {
+        var encoded = getVarInt(in);
+
+        if (encoded == 0) {
+            return null;
+        }
+
+        var length = encoded - 1;
+
+        if (length > in.remaining()) {
+            throw new IllegalArgumentException("String length " + length + " exceeds the " + in.remaining() + " bytes remaining");
+        }
+
+        if (in.hasArray()) {
+            var text = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+            in.position(in.position() + length);
+
+            return text;
+        }
+
+        // A direct buffer has no array to decode from, so decode into the chars of the result
+        var chars = new char[length];
+        var count = 0;
+        var end = in.position() + length;
+
+        while (in.position() < end) {
+            var b = in.get() & 0xFF;
+
+            if (b < 0x80) {
+                chars[count++] = (char) b;
+            }
+            else if (b < 0xE0) {
+                chars[count++] = (char) (((b & 0x1F) << 6) | (in.get() & 0x3F));
+            }
+            else if (b < 0xF0) {
+                chars[count++] = (char) (((b & 0x0F) << 12) | ((in.get() & 0x3F) << 6) | (in.get() & 0x3F));
+            }
+            else {
+                var codePoint = ((b & 0x07) << 18) | ((in.get() & 0x3F) << 12) | ((in.get() & 0x3F) << 6) | (in.get() & 0x3F);
+                chars[count++] = Character.highSurrogate(codePoint);
+                chars[count++] = Character.lowSurrogate(codePoint);
+            }
+        }
+
+        return new String(chars, 0, count);
+    }
+}
@@ -0,0 +1,14 @@
+package org.saltations.systematics.codec;
+
+import org.saltations.systematics.core.FailureType;
+
+/**
+ * A failure type read off the wire that is not in the local {@link FailureTypeTable}.
+ *
+ * @param title The title of the type.
+ * @param template The template of the type.
+ */
+
+public record WireFailureType(String title, String template) implements FailureType
+{
+}
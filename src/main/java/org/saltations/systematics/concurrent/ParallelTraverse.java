@@ -0,0 +1,181 @@
+package org.saltations.systematics.concurrent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import org.saltations.systematics.core.Failure;
+import org.saltations.systematics.core.Outcome;
+import org.saltations.systematics.core.Outcomes;
+import org.saltations.systematics.core.Success;
+
+/**
+ * A parallel version of {@link Outcomes#traverse} for CPU-bound per-item work.
+ * <p>
+ * The items are split recursively over a {@link ForkJoinPool} and the function is applied to each item. An exception
+ * thrown by the function is turned into a {@link Failure} for that item. As soon as any item fails, every subtask
+ * that has not started yet is skipped and the running ones stop at their next item, so no more work is spent on a
+ * traversal that is already known to have failed.
+ * </p>
+ * Unlike the sequential traverse, the returned failure is the first one <em>observed</em>, which is not necessarily
+ * the failure with the lowest index when several items fail.
+ */
+
+public final class ParallelTraverse
+{
+    private static final int SLICES_PER_WORKER = 8;
+
+    private ParallelTraverse()
+    {
+    }
+
+    /**
+     * Traverse the items in parallel on the common pool.
+     *
+     * @param items The items.
+     * @param fxn The function producing an outcome for each item.
+     * @return a success with the values in item order, or a failure.
+     */
+
+    public static <A, B> Outcome<List<B>> traverse(List<A> items, Function<? super A, ? extends Outcome<B>> fxn)
+    {
+        return traverse(items, fxn, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Traverse the items in parallel on the given pool.
+     *
+     * @param items The items.
+     * @param fxn The function producing an outcome for each item.
+     * @param pool The pool to run on.
+     * @return a success with the values in item order, or a failure.
+     */
+
+    public static <A, B> Outcome<List<B>> traverse(List<A> items, Function<? super A, ? extends Outcome<B>> fxn, ForkJoinPool pool)
+    {
+        var sliceSize = Math.max(1, items.size() / (pool.getParallelism() * SLICES_PER_WORKER));
+
+        return traverse(items, fxn, pool, sliceSize);
+    }
+
+    /**
+     * Traverse the items in parallel on the given pool, processing at most {@code sliceSize} items per subtask.
+     *
+     * @param items The items.
+     * @param fxn The function producing an outcome for each item.
+     * @param pool The pool to run on.
+     * @param sliceSize The number of items below which a subtask is no longer split.
+     * @return a success with the values in item order, or a failure.
+     */
+
+    @SuppressWarnings("unchecked")
+    public static <A, B> Outcome<List<B>> traverse(List<A> items, Function<? super A, ? extends Outcome<B>> fxn, ForkJoinPool pool, int sliceSize)
+    {
+        if (sliceSize < 1) {
+            throw new IllegalArgumentException("Slice size must be positive but was " + sliceSize);
+        }
+
+        var indexable = items instanceof RandomAccess ? items : new ArrayList<>(items);
+        var traversal = new Traversal<A, B>(indexable, fxn, sliceSize);
+
+        pool.invoke(traversal.slice(0, indexable.size()));
+
+        var failure = traversal.failure.get();
+
+        if (failure != null) {
+            return (Outcome<List<B>>) (Outcome<?>) failure;
+        }
+
+        // A mutable ArrayList, like the sequential traverse returns
+        return new Success<>(new ArrayList<>((List<B>) Arrays.asList(traversal.values)));
+    }
+
+    /**
+     * State shared by all the subtasks of one traversal.
+     */
+
+    private static final class Traversal<A, B>
+    {
+        private final List<A> items;
+        private final Function<? super A, ? extends Outcome<B>> fxn;
+        private final int sliceSize;
+        private final Object[] values;
+        private final AtomicReference<Failure<?>> failure = new AtomicReference<>();
+
+        private volatile boolean failed;
+
+        Traversal(List<A> items, Function<? super A, ? extends Outcome<B>> fxn, int sliceSize)
+        {
+            this.items = items;
+            this.fxn = fxn;
+            this.sliceSize = sliceSize;
+            this.values = new Object[items.size()];
+        }
+
+        Slice slice(int from, int to)
+        {
+            return new Slice(from, to);
+        }
+
+        private void apply(int index)
+        {
+            Outcome<B> outcome;
+
+            try {
+                outcome = fxn.apply(items.get(index));
+            }
+            catch (Exception e) {
+                outcome = new Failure<>(e);
+            }
+
+            if (outcome instanceof Failure<B> itemFailure) {
+                failure.compareAndSet(null, itemFailure);
+                failed = true;
+            }
+            else {
+                values[index] = outcome.get();
+            }
+        }
+
+        /**
+         * A contiguous range of items, split until it is no larger than the slice size.
+         */
+
+        private final class Slice extends RecursiveAction
+        {
+            private static final long serialVersionUID = 1L;
+
+            private final int from;
+            private final int to;
+
+            Slice(int from, int to)
+            {
+                this.from = from;
+                this.to = to;
+            }
+
+            @Override
+            protected void compute()
+            {
+                if (failed) {
+                    return;
+                }
+
+                if (to - from <= sliceSize) {
+                    for (int i = from; i < to && !failed; i++) {
+                        apply(i);
+                    }
+                    return;
+                }
+
+                var mid = (from + to) >>> 1;
+                invokeAll(new Slice(from, mid), new Slice(mid, to));
+            }
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package org.saltations.systematics.concurrent;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.saltations.systematics.core.AsyncOutcome;
+import org.saltations.systematics.core.BasicFailureType;
+import org.saltations.systematics.core.Failure;
+import org.saltations.systematics.core.FailureDetail;
+import org.saltations.systematics.core.MurphysSupplier;
+import org.saltations.systematics.core.Outcome;
+import org.saltations.systematics.core.Outcomes;
+
+/**
+ * Runs {@link Outcome#attempt(MurphysSupplier)} calls on virtual threads.
+ * <p>
+ * Each attempt gets its own virtual thread, so operations that spend their time waiting on I/O can be fanned out
+ * without tying up a platform thread per call. Optionally:
+ * </p>
+ * <dl>
+ *     <dt>Max concurrency</dt>
+ *     <dd>Caps the number of suppliers running at once. Attempts over the limit wait (on their virtual thread) for a
+ *     permit.</dd>
+ *     <dt>Deadline</dt>
+ *     <dd>Bounds how long each attempt may run once it has started. An attempt that misses its deadline completes with
+ *     its own {@link BasicFailureType#TIMEOUT} failure, which is reported to the
+ *     {@linkplain org.saltations.systematics.core.OutcomeObservers observers}, and its virtual thread is interrupted.
+ *     A supplier that ignores the interrupt keeps its concurrency permit until it returns, so the max concurrency
+ *     still bounds the calls actually in flight against a hung dependency.</dd>
+ * </dl>
+ * <p>
+ * Instances are immutable and thread safe.
+ * </p>
+ */
+
+public final class VirtualThreadAttempts
+{
+    private static final VirtualThreadAttempts UNBOUNDED = new VirtualThreadAttempts(0, null);
+
+    private final int maxConcurrency;
+    private final Duration deadline;
+    private final Semaphore permits;
+
+    private VirtualThreadAttempts(int maxConcurrency, Duration deadline)
+    {
+        this.maxConcurrency = maxConcurrency;
+        this.deadline = deadline;
+        this.permits = maxConcurrency > 0 ? new Semaphore(maxConcurrency) : null;
+    }
+
+    /**
+     * Attempts with no concurrency limit and no deadline.
+     */
+
+    public static VirtualThreadAttempts unbounded()
+    {
+        return UNBOUNDED;
+    }
+
+    /**
+     * Returns a copy of these attempts that runs at most the given number of attempts at once.
+     * <p>
+     * The limit is shared by every call made through the returned instance.
+     * </p>
+     *
+     * @param maxConcurrency the maximum number of attempts in flight. Must be positive.
+     */
+
+    public VirtualThreadAttempts withMaxConcurrency(int maxConcurrency)
+    {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("Max concurrency must be positive but was " + maxConcurrency);
+        }
+
+        return new VirtualThreadAttempts(maxConcurrency, deadline);
+    }
+
+    /**
+     * Returns a copy of these attempts that gives up on each attempt after the given time.
+     *
+     * @param deadline the maximum time an attempt may run. Must be positive.
+     */
+
+    public VirtualThreadAttempts withDeadline(Duration deadline)
+    {
+        if (deadline == null || deadline.isNegative() || deadline.isZero()) {
+            throw new IllegalArgumentException("Deadline must be positive but was " + deadline);
+        }
+
+        return new VirtualThreadAttempts(maxConcurrency, deadline);
+    }
+
+    /**
+     * Attempts the given operation on a new virtual thread.
+     *
+     * @param supplier the operation to attempt.
+     * @param <T> the type of the value being supplied.
+     * @return an AsyncOutcome that completes with the outcome of the operation.
+     */
+
+    public <T> AsyncOutcome<T> attempt(MurphysSupplier<T> supplier)
+    {
+        return AsyncOutcome.fromOutcome(start(supplier));
+    }
+
+    /**
+     * Attempts all of the given operations concurrently, each on its own virtual thread, and waits for all of them.
+     *
+     * @param suppliers the operations to attempt.
+     * @param <T> the type of the values being supplied.
+     * @return the outcomes, in the same order as the suppliers.
+     */
+
+    public <T> List<Outcome<T>> attemptAll(Collection<? extends MurphysSupplier<? extends T>> suppliers)
+    {
+        var pending = new ArrayList<CompletableFuture<Outcome<T>>>(suppliers.size());
+
+        for (var supplier : suppliers) {
+            pending.add(start(supplier::supply));
+        }
+
+        var outcomes = new ArrayList<Outcome<T>>(pending.size());
+
+        for (var future : pending) {
+            outcomes.add(AsyncOutcome.fromOutcome(future).join());
+        }
+
+        return outcomes;
+    }
+
+    private <T> CompletableFuture<Outcome<T>> start(MurphysSupplier<T> supplier)
+    {
+        var result = new CompletableFuture<Outcome<T>>();
+
+        Thread.ofVirtual().name("outcome-attempt").start(() -> {
+            try {
+                if (permits != null) {
+                    permits.acquire();
+                }
+            }
+            catch (InterruptedException e) {
+                result.complete(new Failure<>(e));
+                return;
+            }
+
+            try {
+                if (deadline != null) {
+                    var attempting = Thread.currentThread();
+
+                    CompletableFuture.delayedExecutor(deadline.toNanos(), TimeUnit.NANOSECONDS)
+                                     .execute(() -> timeOut(result, attempting));
+                }
+
+                result.complete(Outcome.attempt(supplier));
+            }
+            finally {
+                // Held until the supplier returns, even past its deadline, so a hung call keeps counting against the limit
+                if (permits != null) {
+                    permits.release();
+                }
+            }
+        });
+
+        return result;
+    }
+
+    /**
+     * Complete the attempt with a timeout failure of its own, if it has not completed yet, and interrupt its thread. The
+     * failure is only reported to the observers when it wins, so an attempt that finishes in time is not counted.
+     */
+
+    private <T> void timeOut(CompletableFuture<Outcome<T>> result, Thread attempting)
+    {
+        if (result.isDone()) {
+            return;
+        }
+
+        var type = BasicFailureType.TIMEOUT;
+        var timeout = new Failure<T>(type, type.title(), FailureDetail.deferred(type.compiledTemplate(), deadline.toMillis()), null);
+
+        if (result.complete(timeout)) {
+            Outcomes.observed(timeout);
+            attempting.interrupt();
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package org.saltations.systematics.core;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * An {@link Outcome} that will be available in the future.
+ * <p>
+ * {@code AsyncOutcome} mirrors the {@link Outcome} operations but composes them on a {@link CompletableFuture} so that
+ * no thread is blocked while the outcome is pending. The underlying future always completes normally with a
+ * {@link Success} or a {@link Failure}: exceptions thrown by the operation, by any of the functions passed to the
+ * combinators, or carried by an exceptionally completed stage are turned into a {@link Failure}.
+ * </p>
+ * Only {@link #join()} blocks.
+ *
+ * @param <SV> The type of the success value.
+ */
+
+public final class AsyncOutcome<SV>
+{
+    private final CompletableFuture<Outcome<SV>> future;
+
+    private AsyncOutcome(CompletableFuture<Outcome<SV>> future)
+    {
+        this.future = future;
+    }
+
+    /**
+     * Attempt the given operation asynchronously on the given executor.
+     *
+     * @param supplier the operation to attempt.
+     * @param executor the executor that runs the operation.
+     * @param <U> the type of the value being supplied.
+     * @return an AsyncOutcome that completes with the outcome of the operation.
+     */
+
+    public static <U> AsyncOutcome<U> attempt(MurphysSupplier<U> supplier, Executor executor)
+    {
+        try {
+            return new AsyncOutcome<>(CompletableFuture.supplyAsync(() -> Outcome.attempt(supplier), executor));
+        }
+        catch (RuntimeException e) {
+            // The executor refused the task
+            return completed(new Failure<>(e));
+        }
+    }
+
+    /**
+     * Create an AsyncOutcome that is already complete.
+     *
+     * @param outcome the outcome.
+     * @param <U> the type of the success value.
+     */
+
+    public static <U> AsyncOutcome<U> completed(Outcome<U> outcome)
+    {
+        return new AsyncOutcome<>(CompletableFuture.completedFuture(outcome));
+    }
+
+    /**
+     * Adapt a stage that produces a value. A normal completion becomes a {@link Success}, an exceptional completion
+     * (or a {@code null} value) becomes a {@link Failure}.
+     *
+     * @param stage the stage to adapt.
+     * @param <U> the type of the value.
+     */
+
+    public static <U> AsyncOutcome<U> fromValue(CompletionStage<? extends U> stage)
+    {
+        var adapted = stage.<Outcome<U>>handle((value, thrown) -> {
+            if (thrown != null) {
+                return failureOf(thrown);
+            }
+
+            return value == null ? failureOf(new NullPointerException("Stage completed with a null value")) : new Success<>(value);
+        });
+
+        return new AsyncOutcome<>(adapted.toCompletableFuture());
+    }
+
+    /**
+     * Adapt a stage that produces an {@link Outcome}. An exceptional completion becomes a {@link Failure}.
+     *
+     * @param stage the stage to adapt.
+     * @param <U> the type of the success value.
+     */
+
+    public static <U> AsyncOutcome<U> fromOutcome(CompletionStage<? extends Outcome<U>> stage)
+    {
+        var adapted = stage.<Outcome<U>>handle((outcome, thrown) -> {
+            if (thrown != null) {
+                return failureOf(thrown);
+            }
+
+            return outcome == null ? failureOf(new NullPointerException("Stage completed with a null outcome")) : outcome;
+        });
+
+        return new AsyncOutcome<>(adapted.toCompletableFuture());
+    }
+
+    /**
+     * Transforms the success value once it is available. See {@link Outcome#map(Function)}.
+     *
+     * @param mapFxn a Function that takes a value of type SV and returns a value of type NV.
+     * @param <NV> the type of the value returned by the Function.
+     * @return an AsyncOutcome of the transformed value, or of the same failure.
+     */
+
+    public <NV> AsyncOutcome<NV> map(Function<SV, NV> mapFxn)
+    {
+        return then(outcome -> outcome.map(mapFxn));
+    }
+
+    /**
+     * Transforms the success value once it is available. See {@link Outcome#flatMap(Function)}.
+     *
+     * @param flatMapFxn a Function that takes a value of type SV and returns an Outcome of type NV.
+     * @param <NV> the type of the value contained in the Outcome returned by the Function.
+     * @return an AsyncOutcome of the returned outcome, or of the same failure.
+     */
+
+    public <NV> AsyncOutcome<NV> flatMap(Function<SV, Outcome<NV>> flatMapFxn)
+    {
+        return then(outcome -> outcome.flatMap(flatMapFxn));
+    }
+
+    /**
+     * Chains another asynchronous operation onto the success value once it is available, without blocking.
+     *
+     * @param flatMapFxn a Function that takes a value of type SV and returns an AsyncOutcome of type NV.
+     * @param <NV> the type of the value contained in the AsyncOutcome returned by the Function.
+     * @return an AsyncOutcome that completes with the returned outcome, or with the same failure.
+     */
+
+    @SuppressWarnings("unchecked")
+    public <NV> AsyncOutcome<NV> flatMapAsync(Function<SV, AsyncOutcome<NV>> flatMapFxn)
+    {
+        var composed = future.thenCompose(outcome -> {
+            if (outcome.isFailure()) {
+                return CompletableFuture.completedFuture((Outcome<NV>) outcome);
+            }
+
+            try {
+                return flatMapFxn.apply(outcome.get()).future;
+            }
+            catch (Exception e) {
+                return CompletableFuture.completedFuture(new Failure<NV>(e));
+            }
+        });
+
+        return new AsyncOutcome<>(guarded(composed));
+    }
+
+    /**
+     * Replaces a failure with the outcome provided by the supplier. See {@link Outcome#orElse(Supplier)}.
+     *
+     * @param supplier the supplier of the alternative outcome.
+     * @return an AsyncOutcome of the same success, or of the alternative outcome.
+     */
+
+    public AsyncOutcome<SV> orElse(Supplier<Outcome<SV>> supplier)
+    {
+        return then(outcome -> outcome.orElse(supplier));
+    }
+
+    /**
+     * Executes the given consumer with the success value once it is available.
+     * If the consumer throws, the returned AsyncOutcome completes with a failure caused by that exception.
+     *
+     * @param consumer the consumer of the success value.
+     * @return an AsyncOutcome that completes with the same outcome after the consumer has run.
+     */
+
+    public AsyncOutcome<SV> onSuccess(Consumer<SV> consumer)
+    {
+        return then(outcome -> {
+            outcome.onSuccess(consumer);
+            return outcome;
+        });
+    }
+
+    /**
+     * Executes the given consumer with the failure once it is available.
+     * If the consumer throws, the returned AsyncOutcome completes with a failure caused by that exception.
+     *
+     * @param consumer the consumer of the failure.
+     * @return an AsyncOutcome that completes with the same outcome after the consumer has run.
+     */
+
+    @SuppressWarnings("rawtypes")
+    public AsyncOutcome<SV> onFailure(Consumer<Failure> consumer)
+    {
+        return then(outcome -> {
+            outcome.onFailure(consumer);
+            return outcome;
+        });
+    }
+
+    /**
+     * Checks if the outcome is available.
+     */
+
+    public boolean isDone()
+    {
+        return future.isDone();
+    }
+
+    /**
+     * Waits for the outcome and returns it. This is the only blocking operation.
+     *
+     * @return the outcome, never null.
+     */
+
+    public Outcome<SV> join()
+    {
+        try {
+            return future.get();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Failure<>(e);
+        }
+        catch (ExecutionException e) {
+            return failureOf(e);
+        }
+    }
+
+    /**
+     * Returns a future of the outcome. The future never completes exceptionally. Completing or cancelling it does not
+     * affect this AsyncOutcome.
+     */
+
+    public CompletableFuture<Outcome<SV>> toCompletableFuture()
+    {
+        return future.copy();
+    }
+
+    private <NV> AsyncOutcome<NV> then(Function<Outcome<SV>, Outcome<NV>> step)
+    {
+        return new AsyncOutcome<>(guarded(future.thenApply(outcome -> {
+            try {
+                return step.apply(outcome);
+            }
+            catch (Exception e) {
+                return new Failure<>(e);
+            }
+        })));
+    }
+
+    private static <U> CompletableFuture<Outcome<U>> guarded(CompletableFuture<Outcome<U>> stage)
+    {
+        return stage.handle((outcome, thrown) -> thrown == null ? outcome : failureOf(thrown));
+    }
+
+    private static <U> Failure<U> failureOf(Throwable thrown)
+    {
+        var cause = thrown;
+
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+
+        return new Failure<>(cause instanceof Exception e ? e : new LightweightException(cause));
+    }
+}
@@ -12,7 +12,8 @@ import lombok.experimental.Accessors;
 public enum BasicFailureType implements FailureType
 {
     GENERIC("generic-failure", ""),
-    CATASTROPHIC("catastrophic-failure", "");
+    CATASTROPHIC("catastrophic-failure", ""),
+    TIMEOUT("timeout-failure", "Did not complete within {0} ms");
 
     private final String title;
     private final String template;
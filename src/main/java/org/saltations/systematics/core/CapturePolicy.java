@@ -0,0 +1,102 @@
+package org.saltations.systematics.core;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decides whether the exceptions created on behalf of a failure should capture a stack trace.
+ * <p>
+ * Filling in a stack trace is by far the most expensive part of building a failure. For failures that are expected
+ * (validation, not-found, rejected input) the trace is rarely looked at, so the policy can be relaxed:
+ * </p>
+ * <dl>
+ *     <dt>{@link #FULL}</dt>
+ *     <dd>Always capture. This is the default.</dd>
+ *     <dt>{@link #NONE}</dt>
+ *     <dd>Never capture.</dd>
+ *     <dt>{@link #sampled(int)}</dt>
+ *     <dd>Capture roughly one in every N failures so that traces are still available for diagnosis.</dd>
+ * </dl>
+ * <p>
+ * The policy is consulted by {@link Outcome#attempt(MurphysSupplier, CapturePolicy)}, by {@link MurphysSupplier#get()}
+ * and by {@link LightweightException}. It cannot remove the trace of an exception that was already built elsewhere.
+ * </p>
+ */
+
+public final class CapturePolicy
+{
+    public static final CapturePolicy FULL = new CapturePolicy(1);
+    public static final CapturePolicy NONE = new CapturePolicy(0);
+
+    private static volatile CapturePolicy defaultPolicy = FULL;
+
+    private final int oneIn;
+
+    private CapturePolicy(int oneIn)
+    {
+        this.oneIn = oneIn;
+    }
+
+    /**
+     * Create a policy that captures the stack trace of roughly one in every {@code oneIn} failures.
+     *
+     * @param oneIn The sampling interval. Must be positive. 1 is equivalent to {@link #FULL}.
+     */
+
+    public static CapturePolicy sampled(int oneIn)
+    {
+        if (oneIn < 1) {
+            throw new IllegalArgumentException("Sampling interval must be positive but was " + oneIn);
+        }
+
+        return oneIn == 1 ? FULL : new CapturePolicy(oneIn);
+    }
+
+    /**
+     * The policy used when none is given explicitly.
+     */
+
+    public static CapturePolicy defaultPolicy()
+    {
+        return defaultPolicy;
+    }
+
+    /**
+     * Replace the policy used when none is given explicitly.
+     *
+     * @param policy The new default policy.
+     */
+
+    public static void setDefaultPolicy(CapturePolicy policy)
+    {
+        if (policy == null) {
+            throw new IllegalArgumentException("Default capture policy cannot be null");
+        }
+
+        defaultPolicy = policy;
+    }
+
+    /**
+     * Decide whether the next failure should capture its stack trace.
+     *
+     * @return true if the stack trace should be captured.
+     */
+
+    public boolean shouldCapture()
+    {
+        return switch (oneIn) {
+            case 0 -> false;
+            case 1 -> true;
+            default -> ThreadLocalRandom.current().nextInt(oneIn) == 0;
+        };
+    }
+
+    @Override
+    public String toString()
+    {
+        return switch (oneIn) {
+            case 0 -> "CapturePolicy[NONE]";
+            case 1 -> "CapturePolicy[FULL]";
+            default -> "CapturePolicy[1 in " + oneIn + "]";
+        };
+    }
+}
@@ -0,0 +1,382 @@
+package org.saltations.systematics.core;
+
+import java.text.DateFormat;
+import java.text.MessageFormat;
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A failure detail template that has been parsed once and can be rendered many times without re-parsing.
+ * <p>
+ * Supports both {@code {0}}-style indexed placeholders and {@code {}}-style positional placeholders, where each
+ * {@code {}} takes the next argument in order. A template uses one style or the other; mixing them is rejected, since
+ * it is unclear which argument a {@code {}} following a {@code {0}} should take. Rendering produces the same text as {@link MessageFormat#format}
+ * for the templates {@link MessageFormat} accepts: single quotes escape as they do there, numbers and dates are
+ * formatted for the default locale, {@code null} renders as "null" and placeholders without a matching argument are
+ * left in place. Placeholders with a format type (e.g. {@code {0,number,#.#}}) are delegated to a pre-parsed
+ * {@link MessageFormat}.
+ * </p>
+ * Rendering appends into a per-thread {@link StringBuilder} that is reused across calls, so the only allocation on
+ * the common path is the resulting String.
+ */
+
+public final class CompiledTemplate
+{
+    private static final int MAX_RETAINED_CAPACITY = 1024;
+    private static final int MAX_CACHED_TEMPLATES = 512;
+
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    /**
+     * Compiled templates for the constants of enum failure types, indexed by ordinal.
+     */
+
+    private static final ClassValue<CompiledTemplate[]> BY_ENUM = new ClassValue<>()
+    {
+        @Override
+        protected CompiledTemplate[] computeValue(Class<?> type)
+        {
+            var constants = type.getEnumConstants();
+            var compiled = new CompiledTemplate[constants.length];
+
+            for (int i = 0; i < constants.length; i++) {
+                try {
+                    compiled[i] = compile(((FailureType) constants[i]).template());
+                }
+                catch (IllegalArgumentException e) {
+                    // Left empty so that the error is raised (again) by the lookup of this particular constant
+                }
+            }
+
+            return compiled;
+        }
+    };
+
+    /**
+     * Compiled templates of the other failure types, keyed by template. Bounded, so that types building their templates
+     * on the fly cannot grow it without limit; templates beyond the bound are compiled on every call.
+     */
+
+    private static final ConcurrentHashMap<String, CompiledTemplate> BY_TEMPLATE = new ConcurrentHashMap<>();
+
+    private final String template;
+    private final String[] literals;
+    private final String[] placeholders;
+    private final int[] indices;
+    private final int parameterCount;
+    private final MessageFormat fallback;
+
+    private CompiledTemplate(String template, String[] literals, String[] placeholders, int[] indices, int parameterCount, MessageFormat fallback)
+    {
+        this.template = template;
+        this.literals = literals;
+        this.placeholders = placeholders;
+        this.indices = indices;
+        this.parameterCount = parameterCount;
+        this.fallback = fallback;
+    }
+
+    /**
+     * Get the compiled template of the given failure type.
+     * <p>
+     * Templates of enum failure types are compiled once per constant and cached. Templates of other failure types, such
+     * as records, are cached by template text, up to a bound.
+     * </p>
+     *
+     * @param type The failure type.
+     * @throws IllegalArgumentException if the type's template is not valid.
+     */
+
+    public static CompiledTemplate of(FailureType type)
+    {
+        if (type instanceof Enum<?> constant) {
+            var compiled = BY_ENUM.get(constant.getDeclaringClass())[constant.ordinal()];
+
+            if (compiled != null) {
+                return compiled;
+            }
+        }
+
+        var template = type.template();
+        var cached = BY_TEMPLATE.get(template);
+
+        if (cached != null) {
+            return cached;
+        }
+
+        var compiled = compile(template);
+
+        if (BY_TEMPLATE.size() < MAX_CACHED_TEMPLATES) {
+            var raced = BY_TEMPLATE.putIfAbsent(template, compiled);
+            return raced != null ? raced : compiled;
+        }
+
+        return compiled;
+    }
+
+    /**
+     * Parse the given template.
+     *
+     * @param template The template.
+     * @throws IllegalArgumentException if the template has unmatched braces, an unparseable argument index, or mixes
+     * {@code {}} with indexed placeholders.
+     */
+
+    public static CompiledTemplate compile(String template)
+    {
+        var literals = new ArrayList<String>();
+        var placeholders = new ArrayList<String>();
+        var indices = new ArrayList<Integer>();
+
+        var literal = new StringBuilder();
+        var inQuote = false;
+        var nextPositional = 0;
+        var indexed = false;
+        var parameterCount = 0;
+
+        var length = template.length();
+        var i = 0;
+
+        while (i < length) {
+            var ch = template.charAt(i);
+
+            if (ch == '\'') {
+                if (i + 1 < length && template.charAt(i + 1) == '\'') {
+                    literal.append('\'');
+                    i += 2;
+                }
+                else {
+                    inQuote = !inQuote;
+                    i++;
+                }
+                continue;
+            }
+
+            if (ch != '{' || inQuote) {
+                literal.append(ch);
+                i++;
+                continue;
+            }
+
+            var close = i + 1;
+
+            while (close < length && isPlainArgumentChar(template.charAt(close))) {
+                close++;
+            }
+
+            if (close == length) {
+                throw new IllegalArgumentException("Unmatched braces in the pattern.");
+            }
+
+            if (template.charAt(close) != '}') {
+                // Format types, nested braces and quotes inside an argument are left to MessageFormat
+                return delegating(template);
+            }
+
+            var argument = template.substring(i + 1, close);
+            int index;
+
+            if (argument.isEmpty()) {
+                index = nextPositional++;
+            }
+            else {
+                index = parseIndex(argument);
+                indexed = true;
+            }
+
+            if (indexed && nextPositional > 0) {
+                throw new IllegalArgumentException("Cannot mix {} and indexed placeholders in: " + template);
+            }
+
+            literals.add(literal.toString());
+            literal.setLength(0);
+            placeholders.add(template.substring(i, close + 1));
+            indices.add(index);
+            parameterCount = Math.max(parameterCount, index + 1);
+
+            i = close + 1;
+        }
+
+        literals.add(literal.toString());
+
+        return new CompiledTemplate(template,
+            literals.toArray(String[]::new),
+            placeholders.toArray(String[]::new),
+            indices.stream().mapToInt(Integer::intValue).toArray(),
+            parameterCount,
+            null);
+    }
+
+    /**
+     * The source of this template.
+     */
+
+    public String template()
+    {
+        return template;
+    }
+
+    /**
+     * The number of arguments this template consumes, i.e. one more than the highest argument index it refers to.
+     */
+
+    public int parameterCount()
+    {
+        return parameterCount;
+    }
+
+    /**
+     * Render the template with the given arguments.
+     *
+     * @param args The arguments, may be null or shorter than {@link #parameterCount()}.
+     * @return the rendered text.
+     */
+
+    public String render(Object...args)
+    {
+        if (fallback != null) {
+            return ((MessageFormat) fallback.clone()).format(args);
+        }
+
+        if (indices.length == 0) {
+            return literals[0];
+        }
+
+        var scratch = SCRATCH.get();
+
+        if (scratch.inUse) {
+            // Rendering an argument rendered another template on this thread
+            return renderTo(new StringBuilder(), args).toString();
+        }
+
+        scratch.inUse = true;
+
+        try {
+            var buffer = scratch.buffer;
+            buffer.setLength(0);
+
+            var text = renderTo(buffer, args).toString();
+
+            if (buffer.capacity() > MAX_RETAINED_CAPACITY) {
+                scratch.buffer = new StringBuilder(256);
+            }
+
+            return text;
+        }
+        finally {
+            scratch.inUse = false;
+        }
+    }
+
+    /**
+     * Render the template with the given arguments, appending to the given builder.
+     *
+     * @param target The builder to append to.
+     * @param args The arguments, may be null or shorter than {@link #parameterCount()}.
+     * @return the target builder.
+     */
+
+    public StringBuilder renderTo(StringBuilder target, Object...args)
+    {
+        if (fallback != null) {
+            return target.append(((MessageFormat) fallback.clone()).format(args));
+        }
+
+        var argCount = args == null ? 0 : args.length;
+
+        for (int i = 0; i < indices.length; i++) {
+            target.append(literals[i]);
+
+            var index = indices[i];
+
+            if (index < argCount) {
+                appendArgument(target, args[index]);
+            }
+            else {
+                target.append(placeholders[i]);
+            }
+        }
+
+        return target.append(literals[indices.length]);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "CompiledTemplate[" + template + "]";
+    }
+
+    private static CompiledTemplate delegating(String template)
+    {
+        var format = new MessageFormat(template);
+
+        return new CompiledTemplate(template, null, null, null, format.getFormatsByArgumentIndex().length, format);
+    }
+
+    private static boolean isPlainArgumentChar(char ch)
+    {
+        return ch != '}' && ch != '{' && ch != ',' && ch != '\'';
+    }
+
+    private static int parseIndex(String argument)
+    {
+        int index;
+
+        try {
+            index = Integer.parseInt(argument);
+        }
+        catch (NumberFormatException e) {
+            throw new IllegalArgumentException("can't parse argument number: " + argument, e);
+        }
+
+        if (index < 0) {
+            throw new IllegalArgumentException("negative argument number: " + index);
+        }
+
+        return index;
+    }
+
+    private static void appendArgument(StringBuilder target, Object arg)
+    {
+        if (arg instanceof String text) {
+            target.append(text);
+        }
+        else if (arg instanceof Number number) {
+            target.append(SCRATCH.get().numberFormat().format(number));
+        }
+        else if (arg instanceof Date date) {
+            var locale = Locale.getDefault(Locale.Category.FORMAT);
+            target.append(DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.SHORT, locale).format(date));
+        }
+        else {
+            target.append(arg);
+        }
+    }
+
+    /**
+     * Per-thread rendering state.
+     */
+
+    private static final class Scratch
+    {
+        private StringBuilder buffer = new StringBuilder(256);
+        private boolean inUse;
+        private Locale locale;
+        private NumberFormat numberFormat;
+
+        NumberFormat numberFormat()
+        {
+            var current = Locale.getDefault(Locale.Category.FORMAT);
+
+            if (numberFormat == null || !current.equals(locale)) {
+                locale = current;
+                numberFormat = NumberFormat.getInstance(current);
+            }
+
+            return numberFormat;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package org.saltations.systematics.core;
+
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Represents a failed double outcome. The failure details are held by the wrapped {@link Failure}.
+ *
+ * @param failure The failure.
+ */
+
+public record DoubleFailure(Failure<?> failure) implements DoubleOutcome
+{
+    @Override
+    public boolean isSuccess()
+    {
+        return false;
+    }
+
+    @Override
+    public double getAsDouble()
+    {
+        throw new IllegalStateException("No success value is present for this failure. See attached cause.", failure.cause());
+    }
+
+    @Override
+    public double getOrElse(double alternative)
+    {
+        return alternative;
+    }
+
+    @Override
+    public Failure<?> asFailure()
+    {
+        return failure;
+    }
+
+    @Override
+    public DoubleOutcome map(DoubleUnaryOperator mapFxn)
+    {
+        return this;
+    }
+
+    @Override
+    public DoubleOutcome flatMap(DoubleFunction<DoubleOutcome> flatMapFxn)
+    {
+        return this;
+    }
+
+    @Override
+    public IntOutcome mapToInt(DoubleToIntFunction mapFxn)
+    {
+        return new IntFailure(failure);
+    }
+
+    @Override
+    public LongOutcome mapToLong(DoubleToLongFunction mapFxn)
+    {
+        return new LongFailure(failure);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <NV> Outcome<NV> mapToObj(DoubleFunction<NV> mapFxn)
+    {
+        return (Outcome<NV>) failure;
+    }
+}
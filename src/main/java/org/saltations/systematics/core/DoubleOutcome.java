@@ -0,0 +1,206 @@
+package org.saltations.systematics.core;
+
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * An {@link Outcome} specialized for double values so that numeric results are carried without boxing.
+ * <p>
+ * A {@code DoubleOutcome} is either a {@link DoubleSuccess} holding the primitive value or a {@link DoubleFailure} wrapping an
+ * ordinary {@link Failure}. Transformations between primitive outcomes never box. Use {@link #mapToObj} or {@link #boxed()}
+ * to return to an {@link Outcome}, and {@link Outcome#mapToDouble} to come from one.
+ * </p>
+ * <p>
+ * Boxing is avoided, allocation is not: every successful step still creates a new success, where the boxed equivalent
+ * creates a success and a box. Escape analysis removes both when a chain is inlined; PrimitiveOutcomeBenchmark shows
+ * the cost per step when it cannot.
+ * </p>
+ */
+
+public sealed interface DoubleOutcome permits DoubleSuccess, DoubleFailure
+{
+    /**
+     * Create a success outcome with the given value.
+     *
+     * @param value The value of the success.
+     */
+
+    static DoubleOutcome success(double value)
+    {
+        return new DoubleSuccess(value);
+    }
+
+    /**
+     * Create a failure outcome from the given failure.
+     *
+     * @param failure The failure.
+     */
+
+    static DoubleOutcome failure(Failure<?> failure)
+    {
+        return new DoubleFailure(failure);
+    }
+
+    /**
+     * Checks if the instance represents a success.
+     *
+     * @return true if the instance represents a success, false otherwise.
+     */
+
+    boolean isSuccess();
+
+    /**
+     * Checks if the instance represents a failure.
+     *
+     * @return true if the instance represents a failure, false otherwise.
+     */
+
+    default boolean isFailure() { return !isSuccess(); }
+
+    /**
+     * Returns the value contained in this instance, if it represents a success.
+     *
+     * @return the value contained in this instance.
+     * @throws IllegalStateException if this instance represents a failure.
+     */
+
+    double getAsDouble();
+
+    /**
+     * Returns the value contained in this instance, if it represents a success, or the given alternative.
+     *
+     * @param alternative the value to return if this instance represents a failure.
+     * @return the value contained in this instance if it represents a success; otherwise, the alternative.
+     */
+
+    double getOrElse(double alternative);
+
+    /**
+     * Returns this instance if it represents a success, otherwise the outcome given by the supplier, as
+     * {@link Outcome#orElse(Supplier)} does.
+     *
+     * @param supplier the supplier function that returns an outcome to be used as an alternative.
+     * @return this instance, if it represents a success; otherwise, the alternative outcome.
+     */
+
+    default DoubleOutcome orElse(Supplier<DoubleOutcome> supplier)
+    {
+        return isSuccess() ? this : supplier.get();
+    }
+
+    /**
+     * Returns this instance if it represents a success, otherwise the outcome given by the supplier, as
+     * {@link Outcome#orElse(MurphysSupplier)} does.
+     *
+     * @param supplier the supplier function that returns an outcome to be used as an alternative.
+     * @return this instance, if it represents a success; otherwise, the alternative outcome.
+     */
+
+    default DoubleOutcome orElse(MurphysSupplier<DoubleOutcome> supplier)
+    {
+        return isSuccess() ? this : supplier.get();
+    }
+
+    /**
+     * Returns the failure represented by this instance, if it represents a failure.
+     *
+     * @return the failure represented by this instance.
+     * @throws IllegalStateException if this instance represents a success.
+     */
+
+    Failure<?> asFailure();
+
+    /**
+     * Transforms the value contained in this instance using the provided function, if it represents a success.
+     * If this instance represents a failure, returns the same instance.
+     *
+     * @param mapFxn a function that takes a double and returns a double.
+     * @return a DoubleOutcome that contains the transformed value, if this instance represents a success; otherwise, the same instance.
+     */
+
+    DoubleOutcome map(DoubleUnaryOperator mapFxn);
+
+    /**
+     * Transforms the value contained in this instance using the provided function, if it represents a success.
+     * If this instance represents a failure, returns the same instance.
+     *
+     * @param flatMapFxn a function that takes a double and returns a DoubleOutcome.
+     * @return the outcome returned by the function, if this instance represents a success; otherwise, the same instance.
+     */
+
+    DoubleOutcome flatMap(DoubleFunction<DoubleOutcome> flatMapFxn);
+
+    /**
+     * Transforms the value contained in this instance to an int using the provided function, if it represents a success.
+     * If this instance represents a failure, returns the same failure as an {@link IntOutcome}.
+     *
+     * @param mapFxn a function that takes a double and returns an int.
+     * @return an IntOutcome that contains the transformed value, if this instance represents a success; otherwise, the same failure.
+     */
+
+    IntOutcome mapToInt(DoubleToIntFunction mapFxn);
+
+    /**
+     * Transforms the value contained in this instance to a long using the provided function, if it represents a success.
+     * If this instance represents a failure, returns the same failure as a {@link LongOutcome}.
+     *
+     * @param mapFxn a function that takes a double and returns a long.
+     * @return a LongOutcome that contains the transformed value, if this instance represents a success; otherwise, the same failure.
+     */
+
+    LongOutcome mapToLong(DoubleToLongFunction mapFxn);
+
+    /**
+     * Transforms the value contained in this instance to an object using the provided function, if it represents a success.
+     * If this instance represents a failure, returns the wrapped {@link Failure}.
+     *
+     * @param mapFxn a function that takes a double and returns a value of type NV.
+     * @param <NV> the type of the value returned by the function.
+     * @return an Outcome that contains the transformed value, if this instance represents a success; otherwise, the wrapped failure.
+     */
+
+    <NV> Outcome<NV> mapToObj(DoubleFunction<NV> mapFxn);
+
+    /**
+     * Converts this instance to an {@link Outcome} of the boxed value.
+     *
+     * @return a Success of the boxed value, if this instance represents a success; otherwise, the wrapped failure.
+     */
+
+    default Outcome<Double> boxed()
+    {
+        return mapToObj(Double::valueOf);
+    }
+
+    /**
+     * Executes the given consumer with the contained value if this instance is a success.
+     *
+     * @param consumer the consumer of the success value.
+     */
+
+    default void onSuccess(DoubleConsumer consumer)
+    {
+        if (isSuccess()) {
+            consumer.accept(getAsDouble());
+        }
+    }
+
+    /**
+     * Executes the given consumer with the failure if this instance is a failure.
+     *
+     * @param consumer the consumer of the failure.
+     */
+
+    @SuppressWarnings("rawtypes")
+    default void onFailure(Consumer<Failure> consumer)
+    {
+        if (isFailure()) {
+            consumer.accept(asFailure());
+        }
+    }
+}
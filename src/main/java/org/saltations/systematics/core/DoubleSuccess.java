@@ -0,0 +1,69 @@
+package org.saltations.systematics.core;
+
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Represents a successful outcome carrying a double value without boxing.
+ *
+ * @param value The value of the success.
+ */
+
+public record DoubleSuccess(double value) implements DoubleOutcome
+{
+    @Override
+    public boolean isSuccess()
+    {
+        return true;
+    }
+
+    @Override
+    public double getAsDouble()
+    {
+        return value;
+    }
+
+    @Override
+    public double getOrElse(double alternative)
+    {
+        return value;
+    }
+
+    @Override
+    public Failure<?> asFailure()
+    {
+        throw new IllegalStateException("This Success cannot be used as a failure.");
+    }
+
+    @Override
+    public DoubleOutcome map(DoubleUnaryOperator mapFxn)
+    {
+        return new DoubleSuccess(mapFxn.applyAsDouble(value));
+    }
+
+    @Override
+    public DoubleOutcome flatMap(DoubleFunction<DoubleOutcome> flatMapFxn)
+    {
+        return flatMapFxn.apply(value);
+    }
+
+    @Override
+    public IntOutcome mapToInt(DoubleToIntFunction mapFxn)
+    {
+        return new IntSuccess(mapFxn.applyAsInt(value));
+    }
+
+    @Override
+    public LongOutcome mapToLong(DoubleToLongFunction mapFxn)
+    {
+        return new LongSuccess(mapFxn.applyAsLong(value));
+    }
+
+    @Override
+    public <NV> Outcome<NV> mapToObj(DoubleFunction<NV> mapFxn)
+    {
+        return new Success<>(mapFxn.apply(value));
+    }
+}
@@ -6,19 +6,50 @@ import java.util.function.Function;
  * Represents a failure outcome.
  * The type of the failure is stored in the type field.
  * The title of the failure is stored in the title field.
- * The detail of the failure is stored in the detail field.
+ * The detail of the failure is stored in the details field and is only rendered when {@link #detail()} is called.
  * The cause of the failure is stored in the cause field.
+ * <p>
+ * Compatibility: the third record component used to be {@code String detail} and is now {@code FailureDetail details}.
+ * {@link #detail()} still returns the rendered text, the {@code String} constructor is kept, and equality and
+ * {@link #toString()} are based on the rendered text as before. Record patterns that deconstruct a failure must now
+ * match a {@link FailureDetail} in the third position, e.g. {@code Failure(var type, var title, var details, var cause)},
+ * and call {@link FailureDetail#render()} for the text.
+ * </p>
  *
  * @param <SV> The type of the success value.
  */
 
-public record Failure<SV>(FailureType type, String title, String detail, Exception cause) implements Outcome<SV>
+public record Failure<SV>(FailureType type, String title, FailureDetail details, Exception cause) implements Outcome<SV>
 {
+    public Failure(FailureType type, String title, String detail, Exception cause)
+    {
+        this(type, title, FailureDetail.of(detail), cause);
+    }
+
     public Failure(Exception cause)
     {
         this(BasicFailureType.GENERIC, "", "", cause);
     }
 
+    /**
+     * Returns the detail message of the failure, rendering it from its template on first access.
+     */
+
+    public String detail()
+    {
+        return details.render();
+    }
+
+    /**
+     * Renders the failure in the format it had before the detail was deferred, naming the rendered {@code detail}.
+     */
+
+    @Override
+    public String toString()
+    {
+        return "Failure[type=" + type + ", title=" + title + ", detail=" + detail() + ", cause=" + cause + "]";
+    }
+
     @Override
     public boolean isSuccess()
     {
@@ -43,12 +74,14 @@ public record Failure<SV>(FailureType type, String title, String detail, Excepti
         throw new IllegalStateException("This Failure cannot be used as a Success");
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public <NV> Outcome<NV> map(Function<SV, NV> mapFxn)
     {
         return (Outcome<NV>) this;
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public <NV> Outcome<NV> flatMap(Function<SV, Outcome<NV>> flatMapFxn)
     {
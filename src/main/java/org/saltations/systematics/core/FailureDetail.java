@@ -0,0 +1,130 @@
+package org.saltations.systematics.core;
+
+/**
+ * The detail message of a {@link Failure}, rendered from its template only when it is first read.
+ * <p>
+ * Most failures are handled by code and their detail is never looked at, so formatting it up front is wasted work.
+ * A deferred detail keeps the template and its arguments and renders them with a {@link CompiledTemplate} on the first
+ * call to {@link #render()}, caching the result. The arguments are held by reference and should not be modified after the failure is created.
+ * </p>
+ * Two details are equal when their rendered text is equal, regardless of whether they were deferred or not.
+ */
+
+public final class FailureDetail
+{
+    private static final Object[] NO_ARGS = {};
+
+    private final String template;
+    private final CompiledTemplate compiled;
+    private final Object[] args;
+
+    /**
+     * The rendered text. Racy single-check caching is fine here: rendering is idempotent and String is immutable.
+     */
+
+    private String rendered;
+
+    private FailureDetail(String template, CompiledTemplate compiled, Object[] args, String rendered)
+    {
+        this.template = template;
+        this.compiled = compiled;
+        this.args = args;
+        this.rendered = rendered;
+    }
+
+    /**
+     * Create a detail from already rendered text.
+     *
+     * @param text The detail text.
+     */
+
+    public static FailureDetail of(String text)
+    {
+        return new FailureDetail(text, null, null, text);
+    }
+
+    /**
+     * Create a detail that is rendered from the template and arguments on first access.
+     *
+     * @param template The template of the detail. It is compiled when the detail is rendered.
+     * @param args The arguments of the template.
+     */
+
+    public static FailureDetail deferred(String template, Object...args)
+    {
+        return new FailureDetail(template, null, args == null ? NO_ARGS : args, null);
+    }
+
+    /**
+     * Create a detail that is rendered from an already compiled template and arguments on first access.
+     *
+     * @param template The compiled template of the detail.
+     * @param args The arguments of the template.
+     */
+
+    public static FailureDetail deferred(CompiledTemplate template, Object...args)
+    {
+        return new FailureDetail(template.template(), template, args == null ? NO_ARGS : args, null);
+    }
+
+    /**
+     * Render the detail, formatting the template on first access.
+     *
+     * @return the detail text.
+     * @throws IllegalArgumentException if the template is not valid.
+     */
+
+    public String render()
+    {
+        var text = rendered;
+
+        if (text == null && args != null) {
+            text = (compiled != null ? compiled : CompiledTemplate.compile(template)).render(args);
+            rendered = text;
+        }
+
+        return text;
+    }
+
+    /**
+     * Checks if the detail text has already been rendered.
+     *
+     * @return true if the detail has been rendered or was created from rendered text.
+     */
+
+    public boolean isRendered()
+    {
+        return rendered != null || args == null;
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other) {
+            return true;
+        }
+
+        if (!(other instanceof FailureDetail detail)) {
+            return false;
+        }
+
+        var text = render();
+        var otherText = detail.render();
+
+        return text == null ? otherText == null : text.equals(otherText);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        var text = render();
+
+        return text == null ? 0 : text.hashCode();
+    }
+
+    @Override
+    public String toString()
+    {
+        return String.valueOf(render());
+    }
+}
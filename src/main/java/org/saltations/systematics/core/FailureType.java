@@ -1,7 +1,5 @@
 package org.saltations.systematics.core;
 
-import java.util.regex.Pattern;
-
 /**
  * Represents a type of failure.
  * A failure type has a title and a template for the failure details message.
@@ -15,15 +13,30 @@ public interface FailureType
     String template();
 
     /**
-     * Count the number of template parameters needed by the template.
+     * Get the parsed form of the template. It is parsed once and cached, see {@link CompiledTemplate#of(FailureType)}.
+     *
+     * @throws IllegalArgumentException if the template is not valid.
+     */
+
+    default CompiledTemplate compiledTemplate()
+    {
+        return CompiledTemplate.of(this);
+    }
+
+    /**
+     * Count the number of template parameters needed by the template: the number of {@code {}} placeholders, or one
+     * more than the highest index of the {@code {n}} placeholders.
+     * <p>
+     * Earlier versions only counted {@code {}} placeholders and never threw. Indexed placeholders now count too, and a
+     * malformed template is reported rather than counted.
+     * </p>
+     *
+     * @throws IllegalArgumentException if the template is not valid, see {@link CompiledTemplate#compile(String)}.
      */
 
     default long templateParameterCount()
     {
-        return Pattern.compile("\\{\\}")
-                      .matcher(template())
-                      .results()
-                      .count();
+        return compiledTemplate().parameterCount();
     }
 
 }
@@ -0,0 +1,30 @@
+package org.saltations.systematics.core;
+
+import java.util.function.Function;
+
+/**
+ * A function that takes six arguments and produces a result.
+ *
+ * @param <A> The type of the first argument.
+ * @param <B> The type of the second argument.
+ * @param <C> The type of the third argument.
+ * @param <D> The type of the fourth argument.
+ * @param <E> The type of the fifth argument.
+ * @param <F> The type of the sixth argument.
+ * @param <R> The type of the result.
+ */
+
+@FunctionalInterface
+public interface HexFunction<A, B, C, D, E, F, R>
+{
+    R apply(A a, B b, C c, D d, E e, F f);
+
+    /**
+     * Returns a function that applies this function and then the {@code after} function to its result.
+     */
+
+    default <V> HexFunction<A, B, C, D, E, F, V> andThen(Function<? super R, ? extends V> after)
+    {
+        return (a, b, c, d, e, f) -> after.apply(apply(a, b, c, d, e, f));
+    }
+}
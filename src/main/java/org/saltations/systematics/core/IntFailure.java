@@ -0,0 +1,70 @@
+package org.saltations.systematics.core;
+
+import java.util.function.IntFunction;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Represents a failed int outcome. The failure details are held by the wrapped {@link Failure}.
+ *
+ * @param failure The failure.
+ */
+
+public record IntFailure(Failure<?> failure) implements IntOutcome
+{
+    @Override
+    public boolean isSuccess()
+    {
+        return false;
+    }
+
+    @Override
+    public int getAsInt()
+    {
+        throw new IllegalStateException("No success value is present for this failure. See attached cause.", failure.cause());
+    }
+
+    @Override
+    public int getOrElse(int alternative)
+    {
+        return alternative;
+    }
+
+    @Override
+    public Failure<?> asFailure()
+    {
+        return failure;
+    }
+
+    @Override
+    public IntOutcome map(IntUnaryOperator mapFxn)
+    {
+        return this;
+    }
+
+    @Override
+    public IntOutcome flatMap(IntFunction<IntOutcome> flatMapFxn)
+    {
+        return this;
+    }
+
+    @Override
+    public LongOutcome mapToLong(IntToLongFunction mapFxn)
+    {
+        return new LongFailure(failure);
+    }
+
+    @Override
+    public DoubleOutcome mapToDouble(IntToDoubleFunction mapFxn)
+    {
+        return new DoubleFailure(failure);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <NV> Outcome<NV> mapToObj(IntFunction<NV> mapFxn)
+    {
+        return (Outcome<NV>) failure;
+    }
+}
@@ -0,0 +1,206 @@
+package org.saltations.systematics.core;
+
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * An {@link Outcome} specialized for int values so that numeric results are carried without boxing.
+ * <p>
+ * A {@code IntOutcome} is either an {@link IntSuccess} holding the primitive value or an {@link IntFailure} wrapping an
+ * ordinary {@link Failure}. Transformations between primitive outcomes never box. Use {@link #mapToObj} or {@link #boxed()}
+ * to return to an {@link Outcome}, and {@link Outcome#mapToInt} to come from one.
+ * </p>
+ * <p>
+ * Boxing is avoided, allocation is not: every successful step still creates a new success, where the boxed equivalent
+ * creates a success and a box. Escape analysis removes both when a chain is inlined; PrimitiveOutcomeBenchmark shows
+ * the cost per step when it cannot.
+ * </p>
+ */
+
+public sealed interface IntOutcome permits IntSuccess, IntFailure
+{
+    /**
+     * Create a success outcome with the given value.
+     *
+     * @param value The value of the success.
+     */
+
+    static IntOutcome success(int value)
+    {
+        return new IntSuccess(value);
+    }
+
+    /**
+     * Create a failure outcome from the given failure.
+     *
+     * @param failure The failure.
+     */
+
+    static IntOutcome failure(Failure<?> failure)
+    {
+        return new IntFailure(failure);
+    }
+
+    /**
+     * Checks if the instance represents a success.
+     *
+     * @return true if the instance represents a success, false otherwise.
+     */
+
+    boolean isSuccess();
+
+    /**
+     * Checks if the instance represents a failure.
+     *
+     * @return true if the instance represents a failure, false otherwise.
+     */
+
+    default boolean isFailure() { return !isSuccess(); }
+
+    /**
+     * Returns the value contained in this instance, if it represents a success.
+     *
+     * @return the value contained in this instance.
+     * @throws IllegalStateException if this instance represents a failure.
+     */
+
+    int getAsInt();
+
+    /**
+     * Returns the value contained in this instance, if it represents a success, or the given alternative.
+     *
+     * @param alternative the value to return if this instance represents a failure.
+     * @return the value contained in this instance if it represents a success; otherwise, the alternative.
+     */
+
+    int getOrElse(int alternative);
+
+    /**
+     * Returns this instance if it represents a success, otherwise the outcome given by the supplier, as
+     * {@link Outcome#orElse(Supplier)} does.
+     *
+     * @param supplier the supplier function that returns an outcome to be used as an alternative.
+     * @return this instance, if it represents a success; otherwise, the alternative outcome.
+     */
+
+    default IntOutcome orElse(Supplier<IntOutcome> supplier)
+    {
+        return isSuccess() ? this : supplier.get();
+    }
+
+    /**
+     * Returns this instance if it represents a success, otherwise the outcome given by the supplier, as
+     * {@link Outcome#orElse(MurphysSupplier)} does.
+     *
+     * @param supplier the supplier function that returns an outcome to be used as an alternative.
+     * @return this instance, if it represents a success; otherwise, the alternative outcome.
+     */
+
+    default IntOutcome orElse(MurphysSupplier<IntOutcome> supplier)
+    {
+        return isSuccess() ? this : supplier.get();
+    }
+
+    /**
+     * Returns the failure represented by this instance, if it represents a failure.
+     *
+     * @return the failure represented by this instance.
+     * @throws IllegalStateException if this instance represents a success.
+     */
+
+    Failure<?> asFailure();
+
+    /**
+     * Transforms the value contained in this instance using the provided function, if it represents a success.
+     * If this instance represents a failure, returns the same instance.
+     *
+     * @param mapFxn a function that takes an int and returns an int.
+     * @return an IntOutcome that contains the transformed value, if this instance represents a success; otherwise, the same instance.
+     */
+
+    IntOutcome map(IntUnaryOperator mapFxn);
+
+    /**
+     * Transforms the value contained in this instance using the provided function, if it represents a success.
+     * If this instance represents a failure, returns the same instance.
+     *
+     * @param flatMapFxn a function that takes an int and returns an IntOutcome.
+     * @return the outcome returned by the function, if this instance represents a success; otherwise, the same instance.
+     */
+
+    IntOutcome flatMap(IntFunction<IntOutcome> flatMapFxn);
+
+    /**
+     * Transforms the value contained in this instance to a long using the provided function, if it represents a success.
+     * If this instance represents a failure, returns the same failure as a {@link LongOutcome}.
+     *
+     * @param mapFxn a function that takes an int and returns a long.
+     * @return a LongOutcome that contains the transformed value, if this instance represents a success; otherwise, the same failure.
+     */
+
+    LongOutcome mapToLong(IntToLongFunction mapFxn);
+
+    /**
+     * Transforms the value contained in this instance to a double using the provided function, if it represents a success.
+     * If this instance represents a failure, returns the same failure as a {@link DoubleOutcome}.
+     *
+     * @param mapFxn a function that takes an int and returns a double.
+     * @return a DoubleOutcome that contains the transformed value, if this instance represents a success; otherwise, the same failure.
+     */
+
+    DoubleOutcome mapToDouble(IntToDoubleFunction mapFxn);
+
+    /**
+     * Transforms the value contained in this instance to an object using the provided function, if it represents a success.
+     * If this instance represents a failure, returns the wrapped {@link Failure}.
+     *
+     * @param mapFxn a function that takes an int and returns a value of type NV.
+     * @param <NV> the type of the value returned by the function.
+     * @return an Outcome that contains the transformed value, if this instance represents a success; otherwise, the wrapped failure.
+     */
+
+    <NV> Outcome<NV> mapToObj(IntFunction<NV> mapFxn);
+
+    /**
+     * Converts this instance to an {@link Outcome} of the boxed value.
+     *
+     * @return a Success of the boxed value, if this instance represents a success; otherwise, the wrapped failure.
+     */
+
+    default Outcome<Integer> boxed()
+    {
+        return mapToObj(Integer::valueOf);
+    }
+
+    /**
+     * Executes the given consumer with the contained value if this instance is a success.
+     *
+     * @param consumer the consumer of the success value.
+     */
+
+    default void onSuccess(IntConsumer consumer)
+    {
+        if (isSuccess()) {
+            consumer.accept(getAsInt());
+        }
+    }
+
+    /**
+     * Executes the given consumer with the failure if this instance is a failure.
+     *
+     * @param consumer the consumer of the failure.
+     */
+
+    @SuppressWarnings("rawtypes")
+    default void onFailure(Consumer<Failure> consumer)
+    {
+        if (isFailure()) {
+            consumer.accept(asFailure());
+        }
+    }
+}
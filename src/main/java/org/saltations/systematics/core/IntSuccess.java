@@ -0,0 +1,69 @@
+package org.saltations.systematics.core;
+
+import java.util.function.IntFunction;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Represents a successful outcome carrying an int value without boxing.
+ *
+ * @param value The value of the success.
+ */
+
+public record IntSuccess(int value) implements IntOutcome
+{
+    @Override
+    public boolean isSuccess()
+    {
+        return true;
+    }
+
+    @Override
+    public int getAsInt()
+    {
+        return value;
+    }
+
+    @Override
+    public int getOrElse(int alternative)
+    {
+        return value;
+    }
+
+    @Override
+    public Failure<?> asFailure()
+    {
+        throw new IllegalStateException("This Success cannot be used as a failure.");
+    }
+
+    @Override
+    public IntOutcome map(IntUnaryOperator mapFxn)
+    {
+        return new IntSuccess(mapFxn.applyAsInt(value));
+    }
+
+    @Override
+    public IntOutcome flatMap(IntFunction<IntOutcome> flatMapFxn)
+    {
+        return flatMapFxn.apply(value);
+    }
+
+    @Override
+    public LongOutcome mapToLong(IntToLongFunction mapFxn)
+    {
+        return new LongSuccess(mapFxn.applyAsLong(value));
+    }
+
+    @Override
+    public DoubleOutcome mapToDouble(IntToDoubleFunction mapFxn)
+    {
+        return new DoubleSuccess(mapFxn.applyAsDouble(value));
+    }
+
+    @Override
+    public <NV> Outcome<NV> mapToObj(IntFunction<NV> mapFxn)
+    {
+        return new Success<>(mapFxn.apply(value));
+    }
+}
@@ -0,0 +1,225 @@
+package org.saltations.systematics.core;
+
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * An {@link Outcome} that is not worked out until it is needed.
+ * <p>
+ * {@code LazyOutcome} mirrors the {@link Outcome} operations. {@link #map(Function)}, {@link #flatMap(Function)} and
+ * {@link #orElse(Supplier)} only record the transformation and return a new lazy outcome; nothing runs until one of the
+ * terminal operations ({@link #get()}, {@link #isSuccess()}, {@link #getPotential()}, {@link #outcome()} and so on) is
+ * called. Then the whole chain runs once and its outcome is kept, so later calls, from any thread, see the same result.
+ * If an outcome is never looked at, none of the work behind it is done.
+ * </p>
+ * Evaluation is guarded by a lock so the chain runs at most once even when several threads ask at the same time; once
+ * evaluated, reads are a single volatile read. An exception thrown by a recorded function is not caught, as with
+ * {@link Outcome#map(Function)}; it propagates to the caller and the outcome stays unevaluated.
+ *
+ * @param <SV> The type of the success value.
+ */
+
+public final class LazyOutcome<SV>
+{
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private Supplier<Outcome<SV>> thunk;
+    private volatile Outcome<SV> outcome;
+
+    private LazyOutcome(Supplier<Outcome<SV>> thunk)
+    {
+        this.thunk = thunk;
+    }
+
+    /**
+     * Defer attempting the given operation until the outcome is needed.
+     *
+     * @param supplier the operation to attempt.
+     * @param <U> the type of the value being supplied.
+     */
+
+    public static <U> LazyOutcome<U> attempt(MurphysSupplier<U> supplier)
+    {
+        return new LazyOutcome<>(() -> Outcome.attempt(supplier));
+    }
+
+    /**
+     * Defer calling the given supplier of an outcome until the outcome is needed.
+     *
+     * @param supplier the supplier of the outcome.
+     * @param <U> the type of the success value.
+     */
+
+    public static <U> LazyOutcome<U> defer(Supplier<Outcome<U>> supplier)
+    {
+        return new LazyOutcome<>(supplier);
+    }
+
+    /**
+     * Create a lazy outcome that has already been evaluated.
+     *
+     * @param outcome the outcome.
+     * @param <U> the type of the success value.
+     */
+
+    public static <U> LazyOutcome<U> completed(Outcome<U> outcome)
+    {
+        var lazy = new LazyOutcome<U>(null);
+        lazy.outcome = outcome;
+
+        return lazy;
+    }
+
+    /**
+     * Record a transformation of the success value.
+     */
+
+    public <NV> LazyOutcome<NV> map(Function<SV, NV> mapFxn)
+    {
+        return new LazyOutcome<>(() -> outcome().map(mapFxn));
+    }
+
+    /**
+     * Record a transformation of the success value into another outcome.
+     */
+
+    public <NV> LazyOutcome<NV> flatMap(Function<SV, Outcome<NV>> flatMapFxn)
+    {
+        return new LazyOutcome<>(() -> outcome().flatMap(flatMapFxn));
+    }
+
+    /**
+     * Record an alternative to use if this outcome turns out to be a failure.
+     */
+
+    public LazyOutcome<SV> orElse(Supplier<Outcome<SV>> supplier)
+    {
+        return new LazyOutcome<>(() -> outcome().orElse(supplier));
+    }
+
+    /**
+     * Record an alternative to use if this outcome turns out to be a failure.
+     */
+
+    public LazyOutcome<SV> orElse(MurphysSupplier<Outcome<SV>> supplier)
+    {
+        return new LazyOutcome<>(() -> outcome().orElse(supplier));
+    }
+
+    /**
+     * Whether the outcome has been worked out yet. Does not evaluate.
+     */
+
+    public boolean isEvaluated()
+    {
+        return outcome != null;
+    }
+
+    /**
+     * Evaluate, if not done already, and return the outcome.
+     */
+
+    public Outcome<SV> outcome()
+    {
+        var result = outcome;
+
+        if (result != null) {
+            return result;
+        }
+
+        lock.lock();
+
+        try {
+            result = outcome;
+
+            if (result == null) {
+                result = thunk.get();
+
+                if (result == null) {
+                    throw new NullPointerException("Deferred supplier returned null");
+                }
+
+                outcome = result;
+
+                // Let go of everything the chain captured
+                thunk = null;
+            }
+
+            return result;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Evaluate and check whether the outcome is a success.
+     */
+
+    public boolean isSuccess()
+    {
+        return outcome().isSuccess();
+    }
+
+    /**
+     * Evaluate and check whether the outcome is a failure.
+     */
+
+    public boolean isFailure()
+    {
+        return outcome().isFailure();
+    }
+
+    /**
+     * Evaluate and return the success value.
+     *
+     * @throws RuntimeException if the outcome is a failure.
+     */
+
+    public SV get()
+    {
+        return outcome().get();
+    }
+
+    /**
+     * Evaluate and return the success value, if there is one.
+     */
+
+    public Optional<SV> getPotential()
+    {
+        return outcome().getPotential();
+    }
+
+    /**
+     * Evaluate and return the failure.
+     *
+     * @throws RuntimeException if the outcome is a success.
+     */
+
+    public Failure<?> asFailure()
+    {
+        return outcome().asFailure();
+    }
+
+    /**
+     * Evaluate and pass the success value to the consumer if there is one.
+     */
+
+    public void onSuccess(Consumer<SV> consumer)
+    {
+        outcome().onSuccess(consumer);
+    }
+
+    /**
+     * Evaluate and pass the failure to the consumer if there is one.
+     */
+
+    @SuppressWarnings("rawtypes")
+    public void onFailure(Consumer<Failure> consumer)
+    {
+        outcome().onFailure(consumer);
+    }
+}
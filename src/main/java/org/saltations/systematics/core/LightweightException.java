@@ -0,0 +1,62 @@
+package org.saltations.systematics.core;
+
+/**
+ * An unchecked exception whose stack trace is only captured when a {@link CapturePolicy} asks for it.
+ * <p>
+ * Throw this from a {@link MurphysSupplier} (or hand it to {@link Outcomes#causedFailure(Exception)}) for failures that
+ * are expected and frequent. When the policy declines to capture, the exception is created without calling
+ * {@code fillInStackTrace} and {@link #getStackTrace()} returns an empty array.
+ * </p>
+ */
+
+public class LightweightException extends RuntimeException
+{
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Create an exception using the default capture policy.
+     *
+     * @param message The detail message.
+     */
+
+    public LightweightException(String message)
+    {
+        this(message, null, CapturePolicy.defaultPolicy());
+    }
+
+    /**
+     * Create an exception wrapping the given cause using the default capture policy.
+     *
+     * @param cause The cause. The message is taken from the cause.
+     */
+
+    public LightweightException(Throwable cause)
+    {
+        this(cause == null ? null : cause.toString(), cause, CapturePolicy.defaultPolicy());
+    }
+
+    /**
+     * Create an exception using the default capture policy.
+     *
+     * @param message The detail message.
+     * @param cause The cause, may be null.
+     */
+
+    public LightweightException(String message, Throwable cause)
+    {
+        this(message, cause, CapturePolicy.defaultPolicy());
+    }
+
+    /**
+     * Create an exception using the given capture policy.
+     *
+     * @param message The detail message.
+     * @param cause The cause, may be null.
+     * @param policy The policy deciding whether the stack trace is captured.
+     */
+
+    public LightweightException(String message, Throwable cause, CapturePolicy policy)
+    {
+        super(message, cause, true, policy.shouldCapture());
+    }
+}
@@ -0,0 +1,70 @@
+package org.saltations.systematics.core;
+
+import java.util.function.LongFunction;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Represents a failed long outcome. The failure details are held by the wrapped {@link Failure}.
+ *
+ * @param failure The failure.
+ */
+
+public record LongFailure(Failure<?> failure) implements LongOutcome
+{
+    @Override
+    public boolean isSuccess()
+    {
+        return false;
+    }
+
+    @Override
+    public long getAsLong()
+    {
+        throw new IllegalStateException("No success value is present for this failure. See attached cause.", failure.cause());
+    }
+
+    @Override
+    public long getOrElse(long alternative)
+    {
+        return alternative;
+    }
+
+    @Override
+    public Failure<?> asFailure()
+    {
+        return failure;
+    }
+
+    @Override
+    public LongOutcome map(LongUnaryOperator mapFxn)
+    {
+        return this;
+    }
+
+    @Override
+    public LongOutcome flatMap(LongFunction<LongOutcome> flatMapFxn)
+    {
+        return this;
+    }
+
+    @Override
+    public IntOutcome mapToInt(LongToIntFunction mapFxn)
+    {
+        return new IntFailure(failure);
+    }
+
+    @Override
+    public DoubleOutcome mapToDouble(LongToDoubleFunction mapFxn)
+    {
+        return new DoubleFailure(failure);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <NV> Outcome<NV> mapToObj(LongFunction<NV> mapFxn)
+    {
+        return (Outcome<NV>) failure;
+    }
+}
@@ -0,0 +1,206 @@
+package org.saltations.systematics.core;
+
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * An {@link Outcome} specialized for long values so that numeric results are carried without boxing.
+ * <p>
+ * A {@code LongOutcome} is either a {@link LongSuccess} holding the primitive value or a {@link LongFailure} wrapping an
+ * ordinary {@link Failure}. Transformations between primitive outcomes never box. Use {@link #mapToObj} or {@link #boxed()}
+ * to return to an {@link Outcome}, and {@link Outcome#mapToLong} to come from one.
+ * </p>
+ * <p>
+ * Boxing is avoided, allocation is not: every successful step still creates a new success, where the boxed equivalent
+ * creates a success and a box. Escape analysis removes both when a chain is inlined; PrimitiveOutcomeBenchmark shows
+ * the cost per step when it cannot.
+ * </p>
+ */
+
+public sealed interface LongOutcome permits LongSuccess, LongFailure
+{
+    /**
+     * Create a success outcome with the given value.
+     *
+     * @param value The value of the success.
+     */
+
+    static LongOutcome success(long value)
+    {
+        return new LongSuccess(value);
+    }
+
+    /**
+     * Create a failure outcome from the given failure.
+     *
+     * @param failure The failure.
+     */
+
+    static LongOutcome failure(Failure<?> failure)
+    {
+        return new LongFailure(failure);
+    }
+
+    /**
+     * Checks if the instance represents a success.
+     *
+     * @return true if the instance represents a success, false otherwise.
+     */
+
+    boolean isSuccess();
+
+    /**
+     * Checks if the instance represents a failure.
+     *
+     * @return true if the instance represents a failure, false otherwise.
+     */
+
+    default boolean isFailure() { return !isSuccess(); }
+
+    /**
+     * Returns the value contained in this instance, if it represents a success.
+     *
+     * @return the value contained in this instance.
+     * @throws IllegalStateException if this instance represents a failure.
+     */
+
+    long getAsLong();
+
+    /**
+     * Returns the value contained in this instance, if it represents a success, or the given alternative.
+     *
+     * @param alternative the value to return if this instance represents a failure.
+     * @return the value contained in this instance if it represents a success; otherwise, the alternative.
+     */
+
+    long getOrElse(long alternative);
+
+    /**
+     * Returns this instance if it represents a success, otherwise the outcome given by the supplier, as
+     * {@link Outcome#orElse(Supplier)} does.
+     *
+     * @param supplier the supplier function that returns an outcome to be used as an alternative.
+     * @return this instance, if it represents a success; otherwise, the alternative outcome.
+     */
+
+    default LongOutcome orElse(Supplier<LongOutcome> supplier)
+    {
+        return isSuccess() ? this : supplier.get();
+    }
+
+    /**
+     * Returns this instance if it represents a success, otherwise the outcome given by the supplier, as
+     * {@link Outcome#orElse(MurphysSupplier)} does.
+     *
+     * @param supplier the supplier function that returns an outcome to be used as an alternative.
+     * @return this instance, if it represents a success; otherwise, the alternative outcome.
+     */
+
+    default LongOutcome orElse(MurphysSupplier<LongOutcome> supplier)
+    {
+        return isSuccess() ? this : supplier.get();
+    }
+
+    /**
+     * Returns the failure represented by this instance, if it represents a failure.
+     *
+     * @return the failure represented by this instance.
+     * @throws IllegalStateException if this instance represents a success.
+     */
+
+    Failure<?> asFailure();
+
+    /**
+     * Transforms the value contained in this instance using the provided function, if it represents a success.
+     * If this instance represents a failure, returns the same instance.
+     *
+     * @param mapFxn a function that takes a long and returns a long.
+     * @return a LongOutcome that contains the transformed value, if this instance represents a success; otherwise, the same instance.
+     */
+
+    LongOutcome map(LongUnaryOperator mapFxn);
+
+    /**
+     * Transforms the value contained in this instance using the provided function, if it represents a success.
+     * If this instance represents a failure, returns the same instance.
+     *
+     * @param flatMapFxn a function that takes a long and returns a LongOutcome.
+     * @return the outcome returned by the function, if this instance represents a success; otherwise, the same instance.
+     */
+
+    LongOutcome flatMap(LongFunction<LongOutcome> flatMapFxn);
+
+    /**
+     * Transforms the value contained in this instance to an int using the provided function, if it represents a success.
+     * If this instance represents a failure, returns the same failure as an {@link IntOutcome}.
+     *
+     * @param mapFxn a function that takes a long and returns an int.
+     * @return an IntOutcome that contains the transformed value, if this instance represents a success; otherwise, the same failure.
+     */
+
+    IntOutcome mapToInt(LongToIntFunction mapFxn);
+
+    /**
+     * Transforms the value contained in this instance to a double using the provided function, if it represents a success.
+     * If this instance represents a failure, returns the same failure as a {@link DoubleOutcome}.
+     *
+     * @param mapFxn a function that takes a long and returns a double.
+     * @return a DoubleOutcome that contains the transformed value, if this instance represents a success; otherwise, the same failure.
+     */
+
+    DoubleOutcome mapToDouble(LongToDoubleFunction mapFxn);
+
+    /**
+     * Transforms the value contained in this instance to an object using the provided function, if it represents a success.
+     * If this instance represents a failure, returns the wrapped {@link Failure}.
+     *
+     * @param mapFxn a function that takes a long and returns a value of type NV.
+     * @param <NV> the type of the value returned by the function.
+     * @return an Outcome that contains the transformed value, if this instance represents a success; otherwise, the wrapped failure.
+     */
+
+    <NV> Outcome<NV> mapToObj(LongFunction<NV> mapFxn);
+
+    /**
+     * Converts this instance to an {@link Outcome} of the boxed value.
+     *
+     * @return a Success of the boxed value, if this instance represents a success; otherwise, the wrapped failure.
+     */
+
+    default Outcome<Long> boxed()
+    {
+        return mapToObj(Long::valueOf);
+    }
+
+    /**
+     * Executes the given consumer with the contained value if this instance is a success.
+     *
+     * @param consumer the consumer of the success value.
+     */
+
+    default void onSuccess(LongConsumer consumer)
+    {
+        if (isSuccess()) {
+            consumer.accept(getAsLong());
+        }
+    }
+
+    /**
+     * Executes the given consumer with the failure if this instance is a failure.
+     *
+     * @param consumer the consumer of the failure.
+     */
+
+    @SuppressWarnings("rawtypes")
+    default void onFailure(Consumer<Failure> consumer)
+    {
+        if (isFailure()) {
+            consumer.accept(asFailure());
+        }
+    }
+}
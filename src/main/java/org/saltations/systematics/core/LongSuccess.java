@@ -0,0 +1,69 @@
+package org.saltations.systematics.core;
+
+import java.util.function.LongFunction;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Represents a successful outcome carrying a long value without boxing.
+ *
+ * @param value The value of the success.
+ */
+
+public record LongSuccess(long value) implements LongOutcome
+{
+    @Override
+    public boolean isSuccess()
+    {
+        return true;
+    }
+
+    @Override
+    public long getAsLong()
+    {
+        return value;
+    }
+
+    @Override
+    public long getOrElse(long alternative)
+    {
+        return value;
+    }
+
+    @Override
+    public Failure<?> asFailure()
+    {
+        throw new IllegalStateException("This Success cannot be used as a failure.");
+    }
+
+    @Override
+    public LongOutcome map(LongUnaryOperator mapFxn)
+    {
+        return new LongSuccess(mapFxn.applyAsLong(value));
+    }
+
+    @Override
+    public LongOutcome flatMap(LongFunction<LongOutcome> flatMapFxn)
+    {
+        return flatMapFxn.apply(value);
+    }
+
+    @Override
+    public IntOutcome mapToInt(LongToIntFunction mapFxn)
+    {
+        return new IntSuccess(mapFxn.applyAsInt(value));
+    }
+
+    @Override
+    public DoubleOutcome mapToDouble(LongToDoubleFunction mapFxn)
+    {
+        return new DoubleSuccess(mapFxn.applyAsDouble(value));
+    }
+
+    @Override
+    public <NV> Outcome<NV> mapToObj(LongFunction<NV> mapFxn)
+    {
+        return new Success<>(mapFxn.apply(value));
+    }
+}
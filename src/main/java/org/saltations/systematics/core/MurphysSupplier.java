@@ -2,6 +2,16 @@ package org.saltations.systematics.core;
 
 import java.util.function.Supplier;
 
+/**
+ * A {@link Supplier} that is allowed to throw checked exceptions.
+ * <p>
+ * When used as a plain {@link Supplier}, checked exceptions are wrapped in a {@link LightweightException} whose stack
+ * trace capture follows {@link CapturePolicy#defaultPolicy()}.
+ * </p>
+ *
+ * @param <T> The type of the supplied value.
+ */
+
 @FunctionalInterface
 public interface MurphysSupplier<T> extends Supplier<T>
 {
@@ -19,7 +29,7 @@ public interface MurphysSupplier<T> extends Supplier<T>
                 throw (RuntimeException) e;
             }
             else {
-                throw new RuntimeException(e);
+                throw new LightweightException(e);
             }
         }
     }
@@ -0,0 +1,32 @@
+package org.saltations.systematics.core;
+
+import java.util.function.Function;
+
+/**
+ * A function that takes eight arguments and produces a result.
+ *
+ * @param <A> The type of the first argument.
+ * @param <B> The type of the second argument.
+ * @param <C> The type of the third argument.
+ * @param <D> The type of the fourth argument.
+ * @param <E> The type of the fifth argument.
+ * @param <F> The type of the sixth argument.
+ * @param <G> The type of the seventh argument.
+ * @param <H> The type of the eighth argument.
+ * @param <R> The type of the result.
+ */
+
+@FunctionalInterface
+public interface OctFunction<A, B, C, D, E, F, G, H, R>
+{
+    R apply(A a, B b, C c, D d, E e, F f, G g, H h);
+
+    /**
+     * Returns a function that applies this function and then the {@code after} function to its result.
+     */
+
+    default <V> OctFunction<A, B, C, D, E, F, G, H, V> andThen(Function<? super R, ? extends V> after)
+    {
+        return (a, b, c, d, e, f, g, h) -> after.apply(apply(a, b, c, d, e, f, g, h));
+    }
+}
@@ -4,6 +4,9 @@ import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * The `Outcome` Monad is a concept in functional programming that encapsulates computations which may either result in a success value or a failure.
@@ -100,6 +103,45 @@ public sealed interface Outcome<SV> permits Success, Failure
 
     <NV> Outcome<NV> flatMap(Function<SV, Outcome<NV>> flatMapFxn);
 
+    /**
+     * Transforms the value contained in this Outcome instance to an int, if the Outcome instance represents a success.
+     * If this Outcome instance represents a failure, returns the same failure as an {@link IntOutcome}.
+     *
+     * @param mapFxn a function that takes a value of type SV and returns an int.
+     * @return an IntOutcome that contains the transformed value, if this Outcome instance represents a success; otherwise, the same failure.
+     */
+
+    default IntOutcome mapToInt(ToIntFunction<SV> mapFxn)
+    {
+        return isSuccess() ? new IntSuccess(mapFxn.applyAsInt(get())) : new IntFailure(asFailure());
+    }
+
+    /**
+     * Transforms the value contained in this Outcome instance to a long, if the Outcome instance represents a success.
+     * If this Outcome instance represents a failure, returns the same failure as a {@link LongOutcome}.
+     *
+     * @param mapFxn a function that takes a value of type SV and returns a long.
+     * @return a LongOutcome that contains the transformed value, if this Outcome instance represents a success; otherwise, the same failure.
+     */
+
+    default LongOutcome mapToLong(ToLongFunction<SV> mapFxn)
+    {
+        return isSuccess() ? new LongSuccess(mapFxn.applyAsLong(get())) : new LongFailure(asFailure());
+    }
+
+    /**
+     * Transforms the value contained in this Outcome instance to a double, if the Outcome instance represents a success.
+     * If this Outcome instance represents a failure, returns the same failure as a {@link DoubleOutcome}.
+     *
+     * @param mapFxn a function that takes a value of type SV and returns a double.
+     * @return a DoubleOutcome that contains the transformed value, if this Outcome instance represents a success; otherwise, the same failure.
+     */
+
+    default DoubleOutcome mapToDouble(ToDoubleFunction<SV> mapFxn)
+    {
+        return isSuccess() ? new DoubleSuccess(mapFxn.applyAsDouble(get())) : new DoubleFailure(asFailure());
+    }
+
     /**
      * Executes the given consumer action with the contained success value if this {@code Outcome} instance is a success.
      * <p>
@@ -125,6 +167,7 @@ public sealed interface Outcome<SV> permits Success, Failure
      *                 failure instance of this {@code Outcome} instance if it is a failure.
      */
 
+    @SuppressWarnings("rawtypes")
     default void onFailure(Consumer<Failure> consumer)
     {
         if (isFailure()) {
@@ -176,6 +219,9 @@ public sealed interface Outcome<SV> permits Success, Failure
 
     /**
      * Creates a new Outcome instance that represents the success or failure of the provided operation.
+     * Stack traces are captured according to {@link CapturePolicy#defaultPolicy()}. A checked exception thrown by the
+     * supplier is now the cause of the failure itself rather than wrapped, see
+     * {@link #attempt(MurphysSupplier, CapturePolicy)}.
      *
      * @param supplier a MurphysSupplier (Supplier that can throw an exception) that provides the value to be contained in the new Outcome instance.
      * @param <U> the type of the value being supplied.
@@ -184,11 +230,56 @@ public sealed interface Outcome<SV> permits Success, Failure
      */
 
     public static <U> Outcome<U> attempt(MurphysSupplier<U> supplier) {
+        return attempt(supplier, CapturePolicy.defaultPolicy());
+    }
+
+    /**
+     * Creates a new Outcome instance that represents the success or failure of the provided operation.
+     * The outcome is reported to the registered {@link OutcomeObserver}s along with the time spent in the supplier.
+     * <p>
+     * Any exception thrown by the supplier, checked or not, becomes the cause of the failure as-is, so the cause is the
+     * same whatever the policy decides. The policy only applies to the exception this method creates itself: errors
+     * and other throwables that are not exceptions are wrapped in a {@link LightweightException} whose stack trace is
+     * captured when the policy says so.
+     * </p>
+     * <p>
+     * <b>Compatibility:</b> earlier versions wrapped checked exceptions and errors in a {@link RuntimeException}
+     * before storing them as the cause. A checked exception is now the cause itself, and an error is wrapped in a
+     * {@link LightweightException}. Code that unwrapped a checked exception with {@code cause().getCause()} should
+     * read {@code cause()} directly.
+     * </p>
+     *
+     * @param supplier a MurphysSupplier (Supplier that can throw an exception) that provides the value to be contained in the new Outcome instance.
+     * @param policy the policy deciding whether this attempt captures stack traces.
+     * @param <U> the type of the value being supplied.
+     *
+     * @return a new Outcome instance that represents a success with the provided value.
+     */
+
+    public static <U> Outcome<U> attempt(MurphysSupplier<U> supplier, CapturePolicy policy) {
+        if (!OutcomeObservers.isActive()) {
+            return attemptUnobserved(supplier, policy);
+        }
+
+        OutcomeObservers.attempting();
+
+        var start = System.nanoTime();
+        var outcome = attemptUnobserved(supplier, policy);
+
+        OutcomeObservers.attempted(outcome, System.nanoTime() - start);
+
+        return outcome;
+    }
+
+    private static <U> Outcome<U> attemptUnobserved(MurphysSupplier<U> supplier, CapturePolicy policy) {
         try {
-            return new Success(supplier.get());
+            return new Success<>(supplier.supply());
         }
         catch (Exception e) {
-            return new Failure<U>(e);
+            return new Failure<>(e);
+        }
+        catch (Throwable e) {
+            return new Failure<>(new LightweightException(e.toString(), e, policy));
         }
     }
 
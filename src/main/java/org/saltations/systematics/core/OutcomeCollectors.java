@@ -0,0 +1,201 @@
+package org.saltations.systematics.core;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collector;
+
+/**
+ * {@link Collector}s for streams of {@link Outcome}s that look at each outcome exactly once.
+ * <p>
+ * The partitioning and grouping collectors split successes from failures in a single pass instead of filtering the
+ * stream twice. The counting collectors accumulate into primitive arrays and never keep the values or the failures.
+ * The variants that take an enum class use an {@link EnumMap} keyed by the {@link FailureType} constants; every
+ * failure collected by them must have a type that is a constant of that enum.
+ * </p>
+ * All of the collectors support parallel streams.
+ */
+
+public final class OutcomeCollectors
+{
+    private OutcomeCollectors()
+    {
+    }
+
+    /**
+     * Split the outcomes into their success values and their failures.
+     */
+
+    public static <SV> Collector<Outcome<SV>, ?, OutcomePartition<SV>> partitioning()
+    {
+        return Collector.<Outcome<SV>, PartitionBuilder<SV>, OutcomePartition<SV>>of(
+            PartitionBuilder::new,
+            PartitionBuilder::add,
+            PartitionBuilder::merge,
+            builder -> new OutcomePartition<>(builder.successes, builder.failures));
+    }
+
+    /**
+     * Group the failures by their type. Successes are skipped.
+     */
+
+    public static <SV> Collector<Outcome<SV>, ?, Map<FailureType, List<Failure<?>>>> failuresByType()
+    {
+        return Collector.<Outcome<SV>, Map<FailureType, List<Failure<?>>>>of(
+            HashMap::new,
+            (groups, outcome) -> {
+                if (outcome instanceof Failure<SV> failure) {
+                    groups.computeIfAbsent(failure.type(), type -> new ArrayList<>()).add(failure);
+                }
+            },
+            OutcomeCollectors::mergeGroups);
+    }
+
+    /**
+     * Group the failures by their type into an {@link EnumMap}. Successes are skipped.
+     *
+     * @param enumType The enum of failure types.
+     * @throws IllegalArgumentException (while collecting) if a failure has a type that is not a constant of the enum.
+     */
+
+    public static <SV, E extends Enum<E> & FailureType> Collector<Outcome<SV>, ?, Map<E, List<Failure<?>>>> failuresByType(Class<E> enumType)
+    {
+        return Collector.<Outcome<SV>, Map<E, List<Failure<?>>>>of(
+            () -> new EnumMap<>(enumType),
+            (groups, outcome) -> {
+                if (outcome instanceof Failure<SV> failure) {
+                    groups.computeIfAbsent(constantOf(enumType, failure), type -> new ArrayList<>()).add(failure);
+                }
+            },
+            OutcomeCollectors::mergeGroups);
+    }
+
+    /**
+     * Count the successes and the failures.
+     */
+
+    public static <SV> Collector<Outcome<SV>, ?, OutcomeCounts> counting()
+    {
+        return Collector.<Outcome<SV>, long[], OutcomeCounts>of(
+            () -> new long[2],
+            (counts, outcome) -> counts[outcome.isSuccess() ? 0 : 1]++,
+            (left, right) -> {
+                left[0] += right[0];
+                left[1] += right[1];
+                return left;
+            },
+            counts -> new OutcomeCounts(counts[0], counts[1]));
+    }
+
+    /**
+     * Count the failures of each type. Successes are skipped.
+     */
+
+    public static <SV> Collector<Outcome<SV>, ?, Map<FailureType, Long>> countingFailuresByType()
+    {
+        return Collector.<Outcome<SV>, Map<FailureType, long[]>, Map<FailureType, Long>>of(
+            HashMap::new,
+            (counts, outcome) -> {
+                if (outcome instanceof Failure<SV> failure) {
+                    counts.computeIfAbsent(failure.type(), type -> new long[1])[0]++;
+                }
+            },
+            (left, right) -> {
+                right.forEach((type, count) -> left.computeIfAbsent(type, key -> new long[1])[0] += count[0]);
+                return left;
+            },
+            counts -> {
+                var result = new HashMap<FailureType, Long>(counts.size() * 2);
+                counts.forEach((type, count) -> result.put(type, count[0]));
+                return result;
+            });
+    }
+
+    /**
+     * Count the failures of each type into an {@link EnumMap}. Successes are skipped and types with no failures are
+     * left out of the map.
+     *
+     * @param enumType The enum of failure types.
+     * @throws IllegalArgumentException (while collecting) if a failure has a type that is not a constant of the enum.
+     */
+
+    public static <SV, E extends Enum<E> & FailureType> Collector<Outcome<SV>, ?, Map<E, Long>> countingFailuresByType(Class<E> enumType)
+    {
+        var constants = enumType.getEnumConstants();
+
+        return Collector.<Outcome<SV>, long[], Map<E, Long>>of(
+            () -> new long[constants.length],
+            (counts, outcome) -> {
+                if (outcome instanceof Failure<SV> failure) {
+                    counts[constantOf(enumType, failure).ordinal()]++;
+                }
+            },
+            (left, right) -> {
+                for (int i = 0; i < left.length; i++) {
+                    left[i] += right[i];
+                }
+                return left;
+            },
+            counts -> {
+                var result = new EnumMap<E, Long>(enumType);
+
+                for (int i = 0; i < counts.length; i++) {
+                    if (counts[i] > 0) {
+                        result.put(constants[i], counts[i]);
+                    }
+                }
+
+                return result;
+            });
+    }
+
+    private static <E extends Enum<E> & FailureType> E constantOf(Class<E> enumType, Failure<?> failure)
+    {
+        var type = failure.type();
+
+        if (!enumType.isInstance(type)) {
+            throw new IllegalArgumentException("Failure type " + type + " is not a constant of " + enumType.getName());
+        }
+
+        return enumType.cast(type);
+    }
+
+    private static <K> Map<K, List<Failure<?>>> mergeGroups(Map<K, List<Failure<?>>> left, Map<K, List<Failure<?>>> right)
+    {
+        right.forEach((type, failures) -> left.merge(type, failures, (into, from) -> {
+            into.addAll(from);
+            return into;
+        }));
+
+        return left;
+    }
+
+    /**
+     * Mutable accumulation state of {@link #partitioning()}.
+     */
+
+    private static final class PartitionBuilder<SV>
+    {
+        private final List<SV> successes = new ArrayList<>();
+        private final List<Failure<?>> failures = new ArrayList<>();
+
+        void add(Outcome<SV> outcome)
+        {
+            if (outcome instanceof Failure<SV> failure) {
+                failures.add(failure);
+            }
+            else {
+                successes.add(outcome.get());
+            }
+        }
+
+        PartitionBuilder<SV> merge(PartitionBuilder<SV> other)
+        {
+            successes.addAll(other.successes);
+            failures.addAll(other.failures);
+            return this;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package org.saltations.systematics.core;
+
+/**
+ * The number of successes and failures in a set of outcomes, counted by {@link OutcomeCollectors#counting()}.
+ *
+ * @param successes The number of successes.
+ * @param failures The number of failures.
+ */
+
+public record OutcomeCounts(long successes, long failures)
+{
+    /**
+     * The total number of outcomes.
+     */
+
+    public long total()
+    {
+        return successes + failures;
+    }
+}
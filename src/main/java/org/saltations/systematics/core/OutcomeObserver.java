@@ -0,0 +1,46 @@
+package org.saltations.systematics.core;
+
+/**
+ * Receives the outcomes created through {@link Outcomes} and {@link Outcome#attempt}.
+ * <p>
+ * Observers are registered with {@link OutcomeObservers#register(OutcomeObserver)} and are called synchronously on
+ * the thread that created the outcome, so they must be cheap and thread safe. An exception thrown by an observer is
+ * ignored. Outcomes created directly through the {@link Success} and {@link Failure} constructors, or by
+ * transforming existing outcomes, are not observed unless they are passed to {@link Outcomes#observed}.
+ * </p>
+ */
+
+public interface OutcomeObserver
+{
+    /**
+     * Called when one of the {@link Outcomes} factories creates an outcome.
+     *
+     * @param outcome The created outcome.
+     */
+
+    default void created(Outcome<?> outcome)
+    {
+    }
+
+    /**
+     * Called on the attempting thread just before {@link Outcome#attempt} runs its supplier. The matching
+     * {@link #attempted} call follows on the same thread; attempts made inside the supplier nest between the two. An
+     * observer registered or unregistered while an attempt is running may see only one of the pair.
+     */
+
+    default void attempting()
+    {
+    }
+
+    /**
+     * Called when {@link Outcome#attempt} completes. By default this is treated as a creation.
+     *
+     * @param outcome The outcome of the attempt.
+     * @param elapsedNanos The time spent in the supplier, in nanoseconds.
+     */
+
+    default void attempted(Outcome<?> outcome, long elapsedNanos)
+    {
+        created(outcome);
+    }
+}
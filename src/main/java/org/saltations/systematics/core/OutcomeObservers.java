@@ -0,0 +1,112 @@
+package org.saltations.systematics.core;
+
+import java.util.Arrays;
+
+/**
+ * The registry of {@link OutcomeObserver}s.
+ * <p>
+ * Observation is opt-in. While no observer is registered, the only cost on the creation path is a read of a volatile
+ * array and attempts are not timed. Registration copies the array, so it is meant to happen at startup rather than
+ * per request.
+ * </p>
+ */
+
+public final class OutcomeObservers
+{
+    private static final OutcomeObserver[] NONE = {};
+
+    private static volatile OutcomeObserver[] observers = NONE;
+
+    private OutcomeObservers()
+    {
+    }
+
+    /**
+     * Register the given observer. Registering the same observer twice has no effect.
+     *
+     * @param observer The observer.
+     */
+
+    public static synchronized void register(OutcomeObserver observer)
+    {
+        if (observer == null) {
+            throw new IllegalArgumentException("Observer cannot be null");
+        }
+
+        var current = observers;
+
+        for (var registered : current) {
+            if (registered == observer) {
+                return;
+            }
+        }
+
+        var updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = observer;
+        observers = updated;
+    }
+
+    /**
+     * Unregister the given observer.
+     *
+     * @param observer The observer.
+     */
+
+    public static synchronized void unregister(OutcomeObserver observer)
+    {
+        observers = Arrays.stream(observers)
+                          .filter(registered -> registered != observer)
+                          .toArray(OutcomeObserver[]::new);
+    }
+
+    /**
+     * Checks if any observer is registered.
+     */
+
+    public static boolean isActive()
+    {
+        return observers.length != 0;
+    }
+
+    static void created(Outcome<?> outcome)
+    {
+        var current = observers;
+
+        for (int i = 0; i < current.length; i++) {
+            try {
+                current[i].created(outcome);
+            }
+            catch (RuntimeException e) {
+                // An observer must never change the outcome of the operation it observes
+            }
+        }
+    }
+
+    static void attempting()
+    {
+        var current = observers;
+
+        for (int i = 0; i < current.length; i++) {
+            try {
+                current[i].attempting();
+            }
+            catch (RuntimeException e) {
+                // An observer must never change the outcome of the operation it observes
+            }
+        }
+    }
+
+    static void attempted(Outcome<?> outcome, long elapsedNanos)
+    {
+        var current = observers;
+
+        for (int i = 0; i < current.length; i++) {
+            try {
+                current[i].attempted(outcome, elapsedNanos);
+            }
+            catch (RuntimeException e) {
+                // An observer must never change the outcome of the operation it observes
+            }
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package org.saltations.systematics.core;
+
+import java.util.List;
+
+/**
+ * The successes and failures of a set of outcomes, split in one pass by {@link OutcomeCollectors#partitioning()}.
+ *
+ * @param successes The success values, in encounter order.
+ * @param failures The failures, in encounter order.
+ * @param <SV> The type of the success values.
+ */
+
+public record OutcomePartition<SV>(List<SV> successes, List<Failure<?>> failures)
+{
+}
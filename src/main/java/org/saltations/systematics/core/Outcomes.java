@@ -1,9 +1,18 @@
 package org.saltations.systematics.core;
 
-import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 /**
  * Factory for ceating the outcomes of an operation.
+ * <p>
+ * Failure details built from a template are not formatted here. They are rendered the first time
+ * {@link Failure#detail()} is called (see {@link FailureDetail}).
+ * </p>
+ * Every outcome created here is reported to the registered {@link OutcomeObserver}s.
  */
 
 public class Outcomes
@@ -14,7 +23,7 @@ public class Outcomes
 
     public static Success<Boolean> success()
     {
-        return Success.SUCCESS;
+        return observed(Success.SUCCESS);
     }
 
     /**
@@ -25,7 +34,7 @@ public class Outcomes
 
     public static <SV> Success<SV> success(SV value)
     {
-        return new Success<>(value);
+        return observed(new Success<>(value));
     }
 
     /**
@@ -34,7 +43,7 @@ public class Outcomes
 
     public static Failure<?> genericFailure()
     {
-        return new Failure<>(BasicFailureType.GENERIC, "Generic failure", "", null);
+        return observed(new Failure<>(BasicFailureType.GENERIC, "Generic failure", "", null));
     }
 
     /**
@@ -43,7 +52,7 @@ public class Outcomes
 
     public static <SV> Failure<SV> genericFailure(String title, String template, Object...args)
     {
-        return new Failure<>(BasicFailureType.GENERIC, title, MessageFormat.format(template, args), null);
+        return observed(new Failure<>(BasicFailureType.GENERIC, title, FailureDetail.deferred(template, args), null));
     }
 
     /**
@@ -52,7 +61,7 @@ public class Outcomes
 
     public static <SV> Failure<SV> genericFailure(String title)
     {
-        return new Failure<>(BasicFailureType.GENERIC, title, "", null);
+        return observed(new Failure<>(BasicFailureType.GENERIC, title, "", null));
     }
 
     /**
@@ -63,7 +72,7 @@ public class Outcomes
 
     public static <SV> Failure<SV> causedFailure(Exception cause)
     {
-        return new Failure<>(cause);
+        return observed(new Failure<>(cause));
     }
 
     /**
@@ -74,7 +83,7 @@ public class Outcomes
 
     public static <SV> Failure<SV> causedFailure(Exception cause, String title)
     {
-        return new Failure<>(BasicFailureType.GENERIC, title, "", cause);
+        return observed(new Failure<>(BasicFailureType.GENERIC, title, "", cause));
     }
 
     /**
@@ -88,7 +97,7 @@ public class Outcomes
 
     public static <SV> Failure<SV> causedFailure(Exception cause, String title, String template, Object...args)
     {
-        return new Failure<>(BasicFailureType.GENERIC, title, MessageFormat.format(template, args), cause);
+        return observed(new Failure<>(BasicFailureType.GENERIC, title, FailureDetail.deferred(template, args), cause));
     }
 
     /**
@@ -100,7 +109,217 @@ public class Outcomes
 
     public static <SV> Failure<SV> typedFailure(FailureType type, Object...args)
     {
-        return new Failure<>(type, type.title(), MessageFormat.format(type.template(), args), null);
+        return observed(new Failure<>(type, type.title(), FailureDetail.deferred(type.compiledTemplate(), args), null));
+    }
+
+    /**
+     * Turn a sequence of outcomes into a single outcome of the list of their values.
+     * <p>
+     * Stops at the first failure and returns that failure instance as-is; the remaining outcomes are not looked at.
+     * When the outcomes are a {@link Collection}, the list is presized to its size.
+     * </p>
+     *
+     * @param outcomes The outcomes.
+     * @return a success with the values in encounter order, or the first failure.
+     */
+
+    @SuppressWarnings("unchecked")
+    public static <T> Outcome<List<T>> sequence(Iterable<? extends Outcome<T>> outcomes)
+    {
+        var values = new ArrayList<T>(sizeHint(outcomes));
+
+        for (var outcome : outcomes) {
+            if (outcome instanceof Failure<T> failure) {
+                return (Outcome<List<T>>) (Outcome<?>) failure;
+            }
+
+            values.add(outcome.get());
+        }
+
+        return new Success<>(values);
+    }
+
+    /**
+     * Apply the given function to each item and collect the values of the resulting outcomes.
+     * <p>
+     * Stops at the first failure and returns that failure instance as-is; the function is not applied to the
+     * remaining items. When the items are a {@link Collection}, the list is presized to its size.
+     * </p>
+     *
+     * @param items The items.
+     * @param fxn The function producing an outcome for each item.
+     * @return a success with the values in encounter order, or the first failure.
+     */
+
+    @SuppressWarnings("unchecked")
+    public static <A, B> Outcome<List<B>> traverse(Iterable<A> items, Function<? super A, ? extends Outcome<B>> fxn)
+    {
+        var values = new ArrayList<B>(sizeHint(items));
+
+        for (var item : items) {
+            var outcome = fxn.apply(item);
+
+            if (outcome instanceof Failure<B> failure) {
+                return (Outcome<List<B>>) (Outcome<?>) failure;
+            }
+
+            values.add(outcome.get());
+        }
+
+        return new Success<>(values);
+    }
+
+    /**
+     * Combine the values of 2 outcomes with the given function.
+     * <p>
+     * The outcomes are checked in argument order and the first failure is returned as-is, without calling the
+     * function. Otherwise the function is called directly with the success values, so no intermediate tuples or
+     * nested outcomes are created; the only allocation is the resulting {@link Success}. There are overloads for up
+     * to 8 outcomes, taking a {@link TriFunction} through {@link OctFunction}.
+     * </p>
+     *
+     * <pre>{@code
+     * Outcome<Quote> quote = Outcomes.combine(customer, item, price, stock, Quote::new);
+     * }</pre>
+     *
+     * @return a success with the result of the function, or the first failure as-is.
+     */
+
+    public static <A, B, R> Outcome<R> combine(Outcome<A> a, Outcome<B> b, BiFunction<? super A, ? super B, ? extends R> fxn)
+    {
+        return a.isFailure() ? failed(a)
+             : b.isFailure() ? failed(b)
+             : new Success<>(fxn.apply(a.get(), b.get()));
+    }
+
+    /**
+     * Combine the values of 3 outcomes with the given function.
+     *
+     * @return a success with the result of the function, or the first failure as-is.
+     */
+
+    public static <A, B, C, R> Outcome<R> combine(Outcome<A> a, Outcome<B> b, Outcome<C> c, TriFunction<? super A, ? super B, ? super C, ? extends R> fxn)
+    {
+        return a.isFailure() ? failed(a)
+             : b.isFailure() ? failed(b)
+             : c.isFailure() ? failed(c)
+             : new Success<>(fxn.apply(a.get(), b.get(), c.get()));
+    }
+
+    /**
+     * Combine the values of 4 outcomes with the given function.
+     *
+     * @return a success with the result of the function, or the first failure as-is.
+     */
+
+    public static <A, B, C, D, R> Outcome<R> combine(Outcome<A> a, Outcome<B> b, Outcome<C> c, Outcome<D> d, QuadFunction<? super A, ? super B, ? super C, ? super D, ? extends R> fxn)
+    {
+        return a.isFailure() ? failed(a)
+             : b.isFailure() ? failed(b)
+             : c.isFailure() ? failed(c)
+             : d.isFailure() ? failed(d)
+             : new Success<>(fxn.apply(a.get(), b.get(), c.get(), d.get()));
+    }
+
+    /**
+     * Combine the values of 5 outcomes with the given function.
+     *
+     * @return a success with the result of the function, or the first failure as-is.
+     */
+
+    public static <A, B, C, D, E, R> Outcome<R> combine(Outcome<A> a, Outcome<B> b, Outcome<C> c, Outcome<D> d, Outcome<E> e, PentaFunction<? super A, ? super B, ? super C, ? super D, ? super E, ? extends R> fxn)
+    {
+        return a.isFailure() ? failed(a)
+             : b.isFailure() ? failed(b)
+             : c.isFailure() ? failed(c)
+             : d.isFailure() ? failed(d)
+             : e.isFailure() ? failed(e)
+             : new Success<>(fxn.apply(a.get(), b.get(), c.get(), d.get(), e.get()));
+    }
+
+    /**
+     * Combine the values of 6 outcomes with the given function.
+     *
+     * @return a success with the result of the function, or the first failure as-is.
+     */
+
+    public static <A, B, C, D, E, F, R> Outcome<R> combine(Outcome<A> a, Outcome<B> b, Outcome<C> c, Outcome<D> d, Outcome<E> e, Outcome<F> f, HexFunction<? super A, ? super B, ? super C, ? super D, ? super E, ? super F, ? extends R> fxn)
+    {
+        return a.isFailure() ? failed(a)
+             : b.isFailure() ? failed(b)
+             : c.isFailure() ? failed(c)
+             : d.isFailure() ? failed(d)
+             : e.isFailure() ? failed(e)
+             : f.isFailure() ? failed(f)
+             : new Success<>(fxn.apply(a.get(), b.get(), c.get(), d.get(), e.get(), f.get()));
+    }
+
+    /**
+     * Combine the values of 7 outcomes with the given function.
+     *
+     * @return a success with the result of the function, or the first failure as-is.
+     */
+
+    public static <A, B, C, D, E, F, G, R> Outcome<R> combine(Outcome<A> a, Outcome<B> b, Outcome<C> c, Outcome<D> d, Outcome<E> e, Outcome<F> f, Outcome<G> g, HeptaFunction<? super A, ? super B, ? super C, ? super D, ? super E, ? super F, ? super G, ? extends R> fxn)
+    {
+        return a.isFailure() ? failed(a)
+             : b.isFailure() ? failed(b)
+             : c.isFailure() ? failed(c)
+             : d.isFailure() ? failed(d)
+             : e.isFailure() ? failed(e)
+             : f.isFailure() ? failed(f)
+             : g.isFailure() ? failed(g)
+             : new Success<>(fxn.apply(a.get(), b.get(), c.get(), d.get(), e.get(), f.get(), g.get()));
+    }
+
+    /**
+     * Combine the values of 8 outcomes with the given function.
+     *
+     * @return a success with the result of the function, or the first failure as-is.
+     */
+
+    public static <A, B, C, D, E, F, G, H, R> Outcome<R> combine(Outcome<A> a, Outcome<B> b, Outcome<C> c, Outcome<D> d, Outcome<E> e, Outcome<F> f, Outcome<G> g, Outcome<H> h, OctFunction<? super A, ? super B, ? super C, ? super D, ? super E, ? super F, ? super G, ? super H, ? extends R> fxn)
+    {
+        return a.isFailure() ? failed(a)
+             : b.isFailure() ? failed(b)
+             : c.isFailure() ? failed(c)
+             : d.isFailure() ? failed(d)
+             : e.isFailure() ? failed(e)
+             : f.isFailure() ? failed(f)
+             : g.isFailure() ? failed(g)
+             : h.isFailure() ? failed(h)
+             : new Success<>(fxn.apply(a.get(), b.get(), c.get(), d.get(), e.get(), f.get(), g.get(), h.get()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R> Outcome<R> failed(Outcome<?> failure)
+    {
+        return (Outcome<R>) failure;
+    }
+
+    /**
+     * Report an outcome that was not created through these factories to the registered observers, as if it had been.
+     * <p>
+     * Meant for outcomes that are built ahead of time or outside of an attempt, such as a shared rejection failure, so
+     * that every occurrence is still counted.
+     * </p>
+     *
+     * @param outcome The outcome.
+     * @return the same outcome.
+     */
+
+    public static <O extends Outcome<?>> O observed(O outcome)
+    {
+        if (OutcomeObservers.isActive()) {
+            OutcomeObservers.created(outcome);
+        }
+
+        return outcome;
+    }
+
+    private static int sizeHint(Iterable<?> items)
+    {
+        return items instanceof Collection<?> collection ? collection.size() : 10;
     }
 
 }
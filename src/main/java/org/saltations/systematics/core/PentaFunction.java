@@ -0,0 +1,29 @@
+package org.saltations.systematics.core;
+
+import java.util.function.Function;
+
+/**
+ * A function that takes five arguments and produces a result.
+ *
+ * @param <A> The type of the first argument.
+ * @param <B> The type of the second argument.
+ * @param <C> The type of the third argument.
+ * @param <D> The type of the fourth argument.
+ * @param <E> The type of the fifth argument.
+ * @param <R> The type of the result.
+ */
+
+@FunctionalInterface
+public interface PentaFunction<A, B, C, D, E, R>
+{
+    R apply(A a, B b, C c, D d, E e);
+
+    /**
+     * Returns a function that applies this function and then the {@code after} function to its result.
+     */
+
+    default <V> PentaFunction<A, B, C, D, E, V> andThen(Function<? super R, ? extends V> after)
+    {
+        return (a, b, c, d, e) -> after.apply(apply(a, b, c, d, e));
+    }
+}
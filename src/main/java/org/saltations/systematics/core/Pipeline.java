@@ -0,0 +1,154 @@
+package org.saltations.systematics.core;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * A chain of {@code map} and {@code flatMap} stages that is built once and then applied to many inputs.
+ * <p>
+ * Chaining {@link Outcome#map(Function)} allocates a {@link Success} at every stage. A pipeline instead passes the
+ * bare value from stage to stage in a single loop and only wraps the result at the end, so applying it allocates at
+ * most the one final {@link Success} (plus whatever the {@code flatMap} stages return). A failure, whether given as
+ * input or returned by a {@code flatMap} stage, ends the loop at once and is returned as-is.
+ * </p>
+ * Pipelines are immutable; adding a stage returns a new pipeline and leaves the original untouched. As with
+ * {@link Success#map(Function)}, exceptions thrown by a stage are not caught.
+ *
+ * <pre>{@code
+ * Pipeline<String, Price> pricing = Pipeline.<String>start()
+ *                                           .map(String::trim)
+ *                                           .flatMap(catalog::lookup)
+ *                                           .map(Item::price);
+ *
+ * Outcome<Price> price = pricing.apply(sku);
+ * }</pre>
+ *
+ * @param <I> The type of the input value.
+ * @param <O> The type of the output value.
+ */
+
+public final class Pipeline<I, O>
+{
+    private static final Pipeline<?, ?> EMPTY = new Pipeline<>(new Function<?, ?>[0], new boolean[0]);
+
+    private final Function<Object, Object>[] stages;
+    private final boolean[] flat;
+
+    @SuppressWarnings("unchecked")
+    private Pipeline(Function<?, ?>[] stages, boolean[] flat)
+    {
+        this.stages = (Function<Object, Object>[]) stages;
+        this.flat = flat;
+    }
+
+    /**
+     * A pipeline with no stages, which returns its input.
+     *
+     * @param <T> The type of the input value.
+     */
+
+    @SuppressWarnings("unchecked")
+    public static <T> Pipeline<T, T> start()
+    {
+        return (Pipeline<T, T>) EMPTY;
+    }
+
+    /**
+     * Add a stage that transforms the value.
+     */
+
+    public <N> Pipeline<I, N> map(Function<? super O, ? extends N> mapFxn)
+    {
+        return append(mapFxn, false);
+    }
+
+    /**
+     * Add a stage that transforms the value into an {@link Outcome}. A failure ends the pipeline.
+     */
+
+    public <N> Pipeline<I, N> flatMap(Function<? super O, ? extends Outcome<N>> flatMapFxn)
+    {
+        return append(flatMapFxn, true);
+    }
+
+    /**
+     * The number of stages.
+     */
+
+    public int size()
+    {
+        return stages.length;
+    }
+
+    /**
+     * Run the stages on the input value.
+     *
+     * @param input The input value.
+     * @return the outcome of the last stage, or the first failure returned by a {@code flatMap} stage.
+     */
+
+    @SuppressWarnings("unchecked")
+    public Outcome<O> apply(I input)
+    {
+        var stages = this.stages;
+        var flat = this.flat;
+        var last = stages.length - 1;
+        Object value = input;
+
+        for (int i = 0; i <= last; i++) {
+            if (!flat[i]) {
+                value = stages[i].apply(value);
+                continue;
+            }
+
+            var outcome = (Outcome<?>) stages[i].apply(value);
+
+            if (i == last || outcome.isFailure()) {
+                return (Outcome<O>) outcome;
+            }
+
+            value = outcome.get();
+        }
+
+        return new Success<>((O) value);
+    }
+
+    /**
+     * Run the stages on the value of the outcome. A failure is returned as-is without running any stage.
+     */
+
+    @SuppressWarnings("unchecked")
+    public Outcome<O> apply(Outcome<? extends I> input)
+    {
+        if (input.isFailure()) {
+            return (Outcome<O>) input;
+        }
+
+        return apply((I) input.get());
+    }
+
+    /**
+     * This pipeline as a function.
+     */
+
+    public Function<I, Outcome<O>> toFunction()
+    {
+        return this::apply;
+    }
+
+    private <N> Pipeline<I, N> append(Function<?, ?> stage, boolean flatStage)
+    {
+        if (stage == null) {
+            throw new IllegalArgumentException("Stage cannot be null");
+        }
+
+        var length = stages.length;
+        var nextStages = Arrays.copyOf(stages, length + 1, Function[].class);
+        var nextFlat = Arrays.copyOf(flat, length + 1);
+
+        nextStages[length] = stage;
+        nextFlat[length] = flatStage;
+
+        return new Pipeline<>(nextStages, nextFlat);
+    }
+}
@@ -0,0 +1,28 @@
+package org.saltations.systematics.core;
+
+import java.util.function.Function;
+
+/**
+ * A function that takes four arguments and produces a result.
+ *
+ * @param <A> The type of the first argument.
+ * @param <B> The type of the second argument.
+ * @param <C> The type of the third argument.
+ * @param <D> The type of the fourth argument.
+ * @param <R> The type of the result.
+ */
+
+@FunctionalInterface
+public interface QuadFunction<A, B, C, D, R>
+{
+    R apply(A a, B b, C c, D d);
+
+    /**
+     * Returns a function that applies this function and then the {@code after} function to its result.
+     */
+
+    default <V> QuadFunction<A, B, C, D, V> andThen(Function<? super R, ? extends V> after)
+    {
+        return (a, b, c, d) -> after.apply(apply(a, b, c, d));
+    }
+}
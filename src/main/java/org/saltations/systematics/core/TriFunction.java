@@ -0,0 +1,27 @@
+package org.saltations.systematics.core;
+
+import java.util.function.Function;
+
+/**
+ * A function that takes three arguments and produces a result.
+ *
+ * @param <A> The type of the first argument.
+ * @param <B> The type of the second argument.
+ * @param <C> The type of the third argument.
+ * @param <R> The type of the result.
+ */
+
+@FunctionalInterface
+public interface TriFunction<A, B, C, R>
+{
+    R apply(A a, B b, C c);
+
+    /**
+     * Returns a function that applies this function and then the {@code after} function to its result.
+     */
+
+    default <V> TriFunction<A, B, C, V> andThen(Function<? super R, ? extends V> after)
+    {
+        return (a, b, c) -> after.apply(apply(a, b, c));
+    }
+}
@@ -0,0 +1,134 @@
+package org.saltations.systematics.jfr;
+
+import java.util.ArrayDeque;
+
+import org.saltations.systematics.core.Failure;
+import org.saltations.systematics.core.Outcome;
+import org.saltations.systematics.core.OutcomeObserver;
+import org.saltations.systematics.core.OutcomeObservers;
+
+/**
+ * Emits Java Flight Recorder events for outcomes.
+ * <p>
+ * Every failure becomes an {@link OutcomeFailureEvent} and every attempt a {@link SlowAttemptEvent}. The events of an
+ * attempt begin just before its supplier runs and end when it returns, so their duration is the time spent in the
+ * supplier and the recording's threshold for each event decides which are kept. By default only attempts that took at
+ * least 10 ms are recorded as slow and every failure is recorded. Change this in the recording settings, e.g.
+ * {@code recording.enable(SlowAttemptEvent.class).withThreshold(Duration.ofNanos(500_000))}. A failure created by a
+ * factory has no duration and is dropped by any failure threshold above zero.
+ * </p>
+ * The events are only built when they are enabled in the running recording, so the observer is cheap to leave
+ * installed when no recording is active.
+ */
+
+public final class JfrOutcomeObserver implements OutcomeObserver
+{
+    private static final Attempt DISABLED = new Attempt(null, null);
+
+    /**
+     * The attempts begun on each thread, innermost first. Attempts nest when a supplier makes attempts of its own.
+     */
+
+    private final ThreadLocal<ArrayDeque<Attempt>> attempts = ThreadLocal.withInitial(ArrayDeque::new);
+
+    /**
+     * Start emitting events by registering with {@link OutcomeObservers}.
+     *
+     * @return this observer.
+     */
+
+    public JfrOutcomeObserver install()
+    {
+        OutcomeObservers.register(this);
+        return this;
+    }
+
+    /**
+     * Stop emitting events.
+     */
+
+    public void uninstall()
+    {
+        OutcomeObservers.unregister(this);
+    }
+
+    @Override
+    public void created(Outcome<?> outcome)
+    {
+        if (outcome instanceof Failure<?> failure) {
+            var event = new OutcomeFailureEvent();
+
+            if (event.shouldCommit()) {
+                describe(event, failure, false);
+                event.commit();
+            }
+        }
+    }
+
+    @Override
+    public void attempting()
+    {
+        var slow = new SlowAttemptEvent();
+        var failed = new OutcomeFailureEvent();
+
+        if (!slow.isEnabled() && !failed.isEnabled()) {
+            attempts.get().push(DISABLED);
+            return;
+        }
+
+        slow.begin();
+        failed.begin();
+        attempts.get().push(new Attempt(slow, failed));
+    }
+
+    @Override
+    public void attempted(Outcome<?> outcome, long elapsedNanos)
+    {
+        // Empty when the observer was installed while the attempt was running
+        var attempt = attempts.get().poll();
+
+        if (attempt == null || attempt == DISABLED) {
+            return;
+        }
+
+        var slow = attempt.slow;
+        slow.end();
+
+        if (slow.shouldCommit()) {
+            slow.success = outcome.isSuccess();
+
+            if (outcome instanceof Failure<?> failure) {
+                slow.failureType = String.valueOf(failure.type());
+                slow.title = failure.title();
+                slow.causeClass = causeClassOf(failure);
+            }
+
+            slow.commit();
+        }
+
+        if (outcome instanceof Failure<?> failure) {
+            var failed = attempt.failed;
+            failed.end();
+
+            if (failed.shouldCommit()) {
+                describe(failed, failure, true);
+                failed.commit();
+            }
+        }
+    }
+
+    private static void describe(OutcomeFailureEvent event, Failure<?> failure, boolean attempted)
+    {
+        event.failureType = String.valueOf(failure.type());
+        event.title = failure.title();
+        event.causeClass = causeClassOf(failure);
+        event.attempted = attempted;
+    }
+
+    private static Class<?> causeClassOf(Failure<?> failure)
+    {
+        return failure.cause() == null ? null : failure.cause().getClass();
+    }
+
+    private record Attempt(SlowAttemptEvent slow, OutcomeFailureEvent failed) {}
+}
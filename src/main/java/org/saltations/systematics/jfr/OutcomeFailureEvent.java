@@ -0,0 +1,37 @@
+package org.saltations.systematics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Recorded for every {@link org.saltations.systematics.core.Failure} created through
+ * {@link org.saltations.systematics.core.Outcomes} or {@link org.saltations.systematics.core.Outcome#attempt}. The
+ * duration of the event is the time spent in the supplier of the attempt, and zero for failures created by a factory.
+ */
+
+@Name("org.saltations.systematics.OutcomeFailure")
+@Label("Outcome Failure")
+@Category({"Systematics", "Outcome"})
+@Description("A failure outcome was created")
+@StackTrace(false)
+@Threshold("0 ns")
+public class OutcomeFailureEvent extends Event
+{
+    @Label("Failure Type")
+    String failureType;
+
+    @Label("Title")
+    String title;
+
+    @Label("Cause Class")
+    Class<?> causeClass;
+
+    @Label("Attempted")
+    @Description("True if the failure came from Outcome.attempt, false if it was created by a factory")
+    boolean attempted;
+}
@@ -0,0 +1,36 @@
+package org.saltations.systematics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Recorded for every {@link org.saltations.systematics.core.Outcome#attempt} whose supplier ran for at least the
+ * threshold of the recording, 10 ms unless set otherwise, whether it succeeded or failed. The duration of the event is
+ * the time spent in the supplier.
+ */
+
+@Name("org.saltations.systematics.SlowAttempt")
+@Label("Slow Outcome Attempt")
+@Category({"Systematics", "Outcome"})
+@Description("An Outcome.attempt took longer than the threshold")
+@StackTrace(false)
+@Threshold("10 ms")
+public class SlowAttemptEvent extends Event
+{
+    @Label("Success")
+    boolean success;
+
+    @Label("Failure Type")
+    String failureType;
+
+    @Label("Title")
+    String title;
+
+    @Label("Cause Class")
+    Class<?> causeClass;
+}
@@ -0,0 +1,329 @@
+package org.saltations.systematics.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import org.saltations.systematics.codec.FailureCodec;
+import org.saltations.systematics.codec.FailureTypeTable;
+import org.saltations.systematics.codec.Wire;
+import org.saltations.systematics.core.Failure;
+import org.saltations.systematics.core.Outcome;
+import org.saltations.systematics.core.OutcomeObserver;
+import org.saltations.systematics.core.OutcomeObservers;
+
+/**
+ * Appends failures to a series of memory-mapped files for later analysis.
+ * <p>
+ * Each file, or segment, has a fixed size and starts with an 8 byte header: a magic number and a format version. Then
+ * come the records, each a 4 byte length followed by the payload, padded to a multiple of 4 bytes. The payload is the
+ * timestamp, the thread id and name, and the failure as written by a {@link FailureCodec}, with every type written out
+ * in full so a reader needs no type table. A length of 0 marks the end of the written records and -1 a segment whose
+ * remaining space was too small for the next record. Any other negative length is a record that could not be written,
+ * such as a failure whose encoding threw, and is the negated length of the space to skip.
+ * </p>
+ * <p>
+ * Writers do not lock. Each reserves its space by atomically advancing the segment's position, writes its payload
+ * into the mapping and only then stores the length, with release semantics, so a reader that sees a length also sees
+ * the whole record. The writer whose reservation overruns a segment marks it full and moves the journal on to a new
+ * segment; that switch is the only locked step. Nothing is forced to disk on the write path; the operating system
+ * writes the mapped pages back, and {@link #flush()} forces them when needed.
+ * </p>
+ * Records that would not fit in an empty segment, or that fail to encode, are dropped and counted. Install the journal to record every
+ * failure created through {@link org.saltations.systematics.core.Outcomes} and
+ * {@link Outcome#attempt}, and read it back with {@link JournalReader}.
+ */
+
+public final class FailureJournal implements OutcomeObserver, AutoCloseable
+{
+    static final int MAGIC = 0x464A4E4C;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 8;
+    static final int RECORD_HEADER_SIZE = 4;
+    static final int END_OF_SEGMENT = -1;
+    static final String SUFFIX = ".journal";
+    static final VarHandle LENGTH = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+
+    private static final int MIN_SEGMENT_SIZE = 4 * 1024;
+    private static final int MAX_SEGMENT_SIZE = 1 << 30;
+
+    private final Path directory;
+    private final String prefix;
+    private final int segmentSize;
+    private final FailureCodec codec = new FailureCodec(FailureTypeTable.of());
+    private final LongAdder appended = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final Object rotation = new Object();
+
+    private volatile Segment current;
+    private volatile boolean closed;
+
+    private FailureJournal(Path directory, String prefix, int segmentSize, int firstIndex) throws IOException
+    {
+        this.directory = directory;
+        this.prefix = prefix;
+        this.segmentSize = segmentSize;
+        this.current = openSegment(firstIndex);
+    }
+
+    /**
+     * Open a journal in the directory, starting a new segment after any existing ones with the same prefix.
+     *
+     * @param directory The directory for the segment files. Created if missing.
+     * @param prefix The start of the segment file names.
+     * @param segmentSize The size of each segment file in bytes, between 4 KiB and 1 GiB.
+     */
+
+    public static FailureJournal open(Path directory, String prefix, int segmentSize) throws IOException
+    {
+        if (segmentSize < MIN_SEGMENT_SIZE || segmentSize > MAX_SEGMENT_SIZE) {
+            throw new IllegalArgumentException("Segment size must be between " + MIN_SEGMENT_SIZE + " and " + MAX_SEGMENT_SIZE + " but was " + segmentSize);
+        }
+
+        Files.createDirectories(directory);
+
+        var existing = segments(directory, prefix);
+        var next = existing.isEmpty() ? 0 : indexOf(existing.get(existing.size() - 1), prefix) + 1;
+
+        return new FailureJournal(directory, prefix, segmentSize & ~3, next);
+    }
+
+    /**
+     * Start journaling every observed failure by registering with {@link OutcomeObservers}.
+     *
+     * @return this journal.
+     */
+
+    public FailureJournal install()
+    {
+        OutcomeObservers.register(this);
+        return this;
+    }
+
+    /**
+     * Stop journaling observed failures.
+     */
+
+    public void uninstall()
+    {
+        OutcomeObservers.unregister(this);
+    }
+
+    @Override
+    public void created(Outcome<?> outcome)
+    {
+        if (outcome instanceof Failure<?> failure) {
+            append(failure);
+        }
+    }
+
+    /**
+     * Append the failure.
+     *
+     * @return true if it was written, false if the journal is closed or the record is larger than a segment.
+     * @throws RuntimeException from encoding the failure, in which case the record is dropped.
+     */
+
+    public boolean append(Failure<?> failure)
+    {
+        if (closed) {
+            dropped.increment();
+            return false;
+        }
+
+        var timestamp = System.currentTimeMillis();
+        var thread = Thread.currentThread();
+        var threadName = thread.getName();
+        var payloadSize = 2 * Long.BYTES + Wire.stringSize(threadName) + codec.encodedSize(failure);
+        var recordSize = (RECORD_HEADER_SIZE + payloadSize + 3) & ~3;
+
+        if (recordSize > segmentSize - HEADER_SIZE) {
+            dropped.increment();
+            return false;
+        }
+
+        while (true) {
+            var segment = current;
+
+            // Do not keep advancing a full segment while another thread is replacing it
+            if (segment.position.get() >= segmentSize) {
+                if (!rotate(segment)) {
+                    dropped.increment();
+                    return false;
+                }
+                continue;
+            }
+
+            var start = segment.position.getAndAdd(recordSize);
+
+            if (start + recordSize <= segmentSize) {
+                var written = false;
+
+                try {
+                    var out = segment.buffer.slice(start + RECORD_HEADER_SIZE, payloadSize);
+
+                    out.putLong(timestamp);
+                    out.putLong(thread.threadId());
+                    Wire.putString(out, threadName);
+                    codec.encode(failure, out);
+
+                    written = true;
+                }
+                finally {
+                    // The space is reserved either way; an unwritten record is marked for readers to step over
+                    LENGTH.setRelease(segment.buffer, start, written ? payloadSize : -payloadSize);
+                    (written ? appended : dropped).increment();
+                }
+
+                return true;
+            }
+
+            // Reservations are contiguous, so only the first one past the end starts inside the segment
+            if (start < segmentSize) {
+                LENGTH.setRelease(segment.buffer, start, END_OF_SEGMENT);
+            }
+
+            if (!rotate(segment)) {
+                dropped.increment();
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Force the current segment to disk.
+     */
+
+    public void flush()
+    {
+        current.buffer.force();
+    }
+
+    /**
+     * The number of failures appended.
+     */
+
+    public long appended()
+    {
+        return appended.sum();
+    }
+
+    /**
+     * The number of failures dropped, because they were too large, failed to encode or the journal was closed.
+     */
+
+    public long dropped()
+    {
+        return dropped.sum();
+    }
+
+    /**
+     * Stop appending, unregister if installed and force the current segment to disk.
+     */
+
+    @Override
+    public void close()
+    {
+        closed = true;
+        uninstall();
+        flush();
+    }
+
+    private boolean rotate(Segment full)
+    {
+        synchronized (rotation) {
+            if (current != full) {
+                return true;
+            }
+
+            try {
+                current = openSegment(full.index + 1);
+                return true;
+            }
+            catch (IOException e) {
+                return false;
+            }
+        }
+    }
+
+    private Segment openSegment(int index) throws IOException
+    {
+        var path = directory.resolve(fileName(prefix, index));
+
+        try (var channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            var buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, VERSION);
+
+            return new Segment(index, buffer);
+        }
+    }
+
+    static String fileName(String prefix, int index)
+    {
+        return String.format("%s%08d%s", prefix, index, SUFFIX);
+    }
+
+    static int indexOf(Path segment, String prefix)
+    {
+        var name = segment.getFileName().toString();
+
+        return Integer.parseInt(name.substring(prefix.length(), name.length() - SUFFIX.length()));
+    }
+
+    static List<Path> segments(Path directory, String prefix) throws IOException
+    {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+
+        try (Stream<Path> files = Files.list(directory)) {
+            var segments = new ArrayList<Path>();
+
+            files.filter(path -> isSegment(path, prefix)).forEach(segments::add);
+            segments.sort((a, b) -> Integer.compare(indexOf(a, prefix), indexOf(b, prefix)));
+
+            return segments;
+        }
+        catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static boolean isSegment(Path path, String prefix)
+    {
+        var name = path.getFileName().toString();
+
+        return name.startsWith(prefix) && name.endsWith(SUFFIX) && name.substring(prefix.length(), name.length() - SUFFIX.length()).matches("\\d+");
+    }
+
+    /**
+     * One mapped file and the position of its next free byte.
+     */
+
+    private static final class Segment
+    {
+        private final int index;
+        private final MappedByteBuffer buffer;
+        private final AtomicInteger position = new AtomicInteger(HEADER_SIZE);
+
+        Segment(int index, MappedByteBuffer buffer)
+        {
+            this.index = index;
+            this.buffer = buffer;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package org.saltations.systematics.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.saltations.systematics.codec.FailureCodec;
+import org.saltations.systematics.codec.FailureTypeTable;
+import org.saltations.systematics.codec.Wire;
+
+/**
+ * Reads back the records of a {@link FailureJournal}, oldest segment first.
+ * <p>
+ * Segments are mapped read-only one at a time as the iteration reaches them. Reading a journal that is still being
+ * written is safe: a segment is read up to the first record that has not been completely written yet. Records that
+ * the journal could not write are skipped.
+ * </p>
+ */
+
+public final class JournalReader implements Iterable<JournalRecord>
+{
+    private final List<Path> segments;
+    private final FailureCodec codec = new FailureCodec(FailureTypeTable.of());
+
+    private JournalReader(List<Path> segments)
+    {
+        this.segments = segments;
+    }
+
+    /**
+     * A reader of the journal segments with the given prefix in the directory.
+     */
+
+    public static JournalReader open(Path directory, String prefix) throws IOException
+    {
+        return new JournalReader(FailureJournal.segments(directory, prefix));
+    }
+
+    /**
+     * The segment files, oldest first.
+     */
+
+    public List<Path> segments()
+    {
+        return segments;
+    }
+
+    /**
+     * Iterate the records.
+     *
+     * @throws UncheckedIOException from the iterator if a segment cannot be read.
+     */
+
+    @Override
+    public Iterator<JournalRecord> iterator()
+    {
+        return new RecordIterator();
+    }
+
+    private final class RecordIterator implements Iterator<JournalRecord>
+    {
+        private int nextSegment;
+        private ByteBuffer buffer;
+        private int position;
+        private JournalRecord next;
+
+        @Override
+        public boolean hasNext()
+        {
+            while (next == null) {
+                if (buffer == null && !mapNextSegment()) {
+                    return false;
+                }
+
+                next = readRecord();
+
+                if (next == null) {
+                    buffer = null;
+                }
+            }
+
+            return true;
+        }
+
+        @Override
+        public JournalRecord next()
+        {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            var record = next;
+            next = null;
+
+            return record;
+        }
+
+        private boolean mapNextSegment()
+        {
+            if (nextSegment >= segments.size()) {
+                return false;
+            }
+
+            var path = segments.get(nextSegment++);
+
+            try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+            catch (IOException e) {
+                throw new UncheckedIOException("Cannot read journal segment " + path, e);
+            }
+
+            if (buffer.capacity() < FailureJournal.HEADER_SIZE || buffer.getInt(0) != FailureJournal.MAGIC) {
+                throw new IllegalStateException(path + " is not a failure journal segment");
+            }
+
+            if (buffer.getInt(4) != FailureJournal.VERSION) {
+                throw new IllegalStateException(path + " has unsupported journal version " + buffer.getInt(4));
+            }
+
+            position = FailureJournal.HEADER_SIZE;
+
+            return true;
+        }
+
+        private JournalRecord readRecord()
+        {
+            if (position + FailureJournal.RECORD_HEADER_SIZE > buffer.capacity()) {
+                return null;
+            }
+
+            var length = (int) FailureJournal.LENGTH.getAcquire(buffer, position);
+
+            // A record that could not be written; step over its space
+            while (length < FailureJournal.END_OF_SEGMENT) {
+                position += (FailureJournal.RECORD_HEADER_SIZE - length + 3) & ~3;
+
+                if (position + FailureJournal.RECORD_HEADER_SIZE > buffer.capacity()) {
+                    return null;
+                }
+
+                length = (int) FailureJournal.LENGTH.getAcquire(buffer, position);
+            }
+
+            if (length <= 0 || position + FailureJournal.RECORD_HEADER_SIZE + length > buffer.capacity()) {
+                return null;
+            }
+
+            var in = buffer.slice(position + FailureJournal.RECORD_HEADER_SIZE, length);
+
+            position += (FailureJournal.RECORD_HEADER_SIZE + length + 3) & ~3;
+
+            var timestamp = in.getLong();
+            var threadId = in.getLong();
+            var threadName = Wire.getString(in);
+
+            return new JournalRecord(timestamp, threadId, threadName, codec.decode(in));
+        }
+    }
+}
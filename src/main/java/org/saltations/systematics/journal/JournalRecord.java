@@ -0,0 +1,27 @@
+package org.saltations.systematics.journal;
+
+import java.time.Instant;
+
+import org.saltations.systematics.core.Failure;
+
+/**
+ * A failure read back from a {@link FailureJournal}.
+ *
+ * @param timestampMillis When the failure was appended, in milliseconds since the epoch.
+ * @param threadId The id of the thread that appended it.
+ * @param threadName The name of the thread that appended it. Often empty for virtual threads.
+ * @param failure The failure. Its type is a {@link org.saltations.systematics.codec.WireFailureType} and its cause, if
+ *                any, a {@link org.saltations.systematics.codec.RemoteCauseException}.
+ */
+
+public record JournalRecord(long timestampMillis, long threadId, String threadName, Failure<?> failure)
+{
+    /**
+     * When the failure was appended.
+     */
+
+    public Instant timestamp()
+    {
+        return Instant.ofEpochMilli(timestampMillis);
+    }
+}
@@ -0,0 +1,48 @@
+package org.saltations.systematics.metrics;
+
+import java.util.Map;
+
+import org.saltations.systematics.core.FailureType;
+
+/**
+ * A point in time copy of the counts kept by {@link OutcomeMetrics}.
+ *
+ * @param successes The number of successes.
+ * @param failuresByType The number of failures of each type.
+ * @param failuresByTypeAndTitle The number of failures of each type, broken down by title.
+ */
+
+public record MetricsSnapshot(long successes, Map<FailureType, Long> failuresByType, Map<FailureType, Map<String, Long>> failuresByTypeAndTitle)
+{
+    /**
+     * The total number of failures.
+     */
+
+    public long failures()
+    {
+        return failuresByType.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * The number of failures of the given type.
+     *
+     * @param type The failure type.
+     */
+
+    public long failures(FailureType type)
+    {
+        return failuresByType.getOrDefault(type, 0L);
+    }
+
+    /**
+     * The number of failures of the given type with the given title.
+     *
+     * @param type The failure type.
+     * @param title The failure title.
+     */
+
+    public long failures(FailureType type, String title)
+    {
+        return failuresByTypeAndTitle.getOrDefault(type, Map.of()).getOrDefault(title, 0L);
+    }
+}
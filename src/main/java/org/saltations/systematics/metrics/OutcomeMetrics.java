@@ -0,0 +1,159 @@
+package org.saltations.systematics.metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.saltations.systematics.core.Failure;
+import org.saltations.systematics.core.FailureType;
+import org.saltations.systematics.core.Outcome;
+import org.saltations.systematics.core.OutcomeObserver;
+import org.saltations.systematics.core.OutcomeObservers;
+
+/**
+ * Counts the successes and failures created through {@link org.saltations.systematics.core.Outcomes} and
+ * {@link Outcome#attempt}, per {@link FailureType} and per failure title.
+ * <p>
+ * The counters are {@link LongAdder}s, which stripe contended increments across cells, and the counters are found
+ * through lock-free {@link ConcurrentHashMap} reads, so recording never takes a lock once a type and title have been
+ * seen. To keep the number of counters bounded when titles are built from data, each type keeps at most
+ * {@code maxTitlesPerType} distinct titles; the rest are counted under {@link #OTHER_TITLES}.
+ * </p>
+ * Use {@link #install()} to start counting and {@link #snapshot()} to read the counts.
+ */
+
+public final class OutcomeMetrics implements OutcomeObserver
+{
+    /**
+     * The title under which failures are counted once a type has reached its maximum number of distinct titles.
+     */
+
+    public static final String OTHER_TITLES = "(other)";
+
+    private static final int DEFAULT_MAX_TITLES_PER_TYPE = 256;
+
+    private final int maxTitlesPerType;
+    private final LongAdder successes = new LongAdder();
+    private final ConcurrentHashMap<FailureType, TypeCounters> failures = new ConcurrentHashMap<>();
+
+    public OutcomeMetrics()
+    {
+        this(DEFAULT_MAX_TITLES_PER_TYPE);
+    }
+
+    /**
+     * @param maxTitlesPerType The maximum number of distinct titles counted per failure type. Must be positive.
+     */
+
+    public OutcomeMetrics(int maxTitlesPerType)
+    {
+        if (maxTitlesPerType < 1) {
+            throw new IllegalArgumentException("Max titles per type must be positive but was " + maxTitlesPerType);
+        }
+
+        this.maxTitlesPerType = maxTitlesPerType;
+    }
+
+    /**
+     * Start counting by registering with {@link OutcomeObservers}.
+     *
+     * @return this registry.
+     */
+
+    public OutcomeMetrics install()
+    {
+        OutcomeObservers.register(this);
+        return this;
+    }
+
+    /**
+     * Stop counting. The counts so far are kept.
+     */
+
+    public void uninstall()
+    {
+        OutcomeObservers.unregister(this);
+    }
+
+    @Override
+    public void created(Outcome<?> outcome)
+    {
+        record(outcome);
+    }
+
+    /**
+     * Count the given outcome.
+     *
+     * @param outcome The outcome.
+     */
+
+    public void record(Outcome<?> outcome)
+    {
+        if (outcome instanceof Failure<?> failure) {
+            var counters = failures.get(failure.type());
+
+            if (counters == null) {
+                counters = failures.computeIfAbsent(failure.type(), type -> new TypeCounters());
+            }
+
+            counters.record(failure.title());
+        }
+        else {
+            successes.increment();
+        }
+    }
+
+    /**
+     * Take a snapshot of the counts.
+     * <p>
+     * The snapshot is not atomic with respect to concurrent recording: counts recorded while it is taken may or may not
+     * be included.
+     * </p>
+     */
+
+    public MetricsSnapshot snapshot()
+    {
+        var byType = new HashMap<FailureType, Long>();
+        var byTitle = new HashMap<FailureType, Map<String, Long>>();
+
+        failures.forEach((type, counters) -> {
+            var titles = new HashMap<String, Long>();
+            var total = 0L;
+
+            for (var entry : counters.byTitle.entrySet()) {
+                var count = entry.getValue().sum();
+                titles.put(entry.getKey(), count);
+                total += count;
+            }
+
+            byType.put(type, total);
+            byTitle.put(type, Map.copyOf(titles));
+        });
+
+        return new MetricsSnapshot(successes.sum(), Map.copyOf(byType), Map.copyOf(byTitle));
+    }
+
+    /**
+     * Counters of one failure type.
+     */
+
+    private final class TypeCounters
+    {
+        private final ConcurrentHashMap<String, LongAdder> byTitle = new ConcurrentHashMap<>();
+
+        void record(String title)
+        {
+            var key = title == null ? "" : title;
+            var counter = byTitle.get(key);
+
+            if (counter == null) {
+                counter = byTitle.size() < maxTitlesPerType
+                    ? byTitle.computeIfAbsent(key, ignored -> new LongAdder())
+                    : byTitle.computeIfAbsent(OTHER_TITLES, ignored -> new LongAdder());
+            }
+
+            counter.increment();
+        }
+    }
+}
@@ -0,0 +1,343 @@
+package org.saltations.systematics.problem;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.function.ToIntFunction;
+
+import org.saltations.systematics.core.Failure;
+import org.saltations.systematics.core.FailureType;
+
+/**
+ * Writes a {@link Failure} as an RFC 7807 Problem Details JSON object, streaming it straight to a {@link Writer} or an
+ * {@link OutputStream}.
+ * <p>
+ * The members are:
+ * </p>
+ * <ul>
+ *     <li>{@code type}: the type base URI followed by the {@link FailureType#title()} as a percent-encoded path
+ *     segment, or {@code about:blank} if the type has no title.</li>
+ *     <li>{@code title}: the failure's title, falling back to the type's title.</li>
+ *     <li>{@code status}: the HTTP status given by the status mapping, left out when the mapping returns 0.</li>
+ *     <li>{@code detail}: the rendered failure detail, left out when empty.</li>
+ *     <li>{@code causes}: an extension member listing the class name and message of each cause in the chain, up to the
+ *     cause depth, left out when there is no cause or the depth is 0.</li>
+ * </ul>
+ * <p>
+ * Nothing is built in between: there is no document tree, no reflection and no string per response. Characters are
+ * escaped as they are written and, for an {@link OutputStream}, encoded to UTF-8 byte by byte, so wrap unbuffered
+ * streams in a buffer. Writers are immutable and thread safe.
+ * </p>
+ */
+
+public final class ProblemDetailsWriter
+{
+    /**
+     * The media type of a Problem Details JSON document.
+     */
+
+    public static final String MEDIA_TYPE = "application/problem+json";
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final char[] PERCENT_HEX = "0123456789ABCDEF".toCharArray();
+    private static final ToIntFunction<FailureType> NO_STATUS = type -> 0;
+
+    private final String typeBase;
+    private final ToIntFunction<FailureType> status;
+    private final int causeDepth;
+
+    private ProblemDetailsWriter(String typeBase, ToIntFunction<FailureType> status, int causeDepth)
+    {
+        this.typeBase = typeBase;
+        this.status = status;
+        this.causeDepth = causeDepth;
+    }
+
+    /**
+     * A writer whose problem types are the given base URI followed by the failure type title, with no status and up to
+     * 8 causes.
+     *
+     * @param typeBase The base URI, e.g. {@code https://example.com/problems/}.
+     */
+
+    public static ProblemDetailsWriter withTypeBase(String typeBase)
+    {
+        return new ProblemDetailsWriter(typeBase, NO_STATUS, 8);
+    }
+
+    /**
+     * Returns a copy of this writer that includes an HTTP status, as given by the mapping. A status of 0 is left out.
+     */
+
+    public ProblemDetailsWriter withStatus(ToIntFunction<FailureType> status)
+    {
+        return new ProblemDetailsWriter(typeBase, status, causeDepth);
+    }
+
+    /**
+     * Returns a copy of this writer that lists at most the given number of causes. 0 leaves the causes out.
+     */
+
+    public ProblemDetailsWriter withCauseDepth(int causeDepth)
+    {
+        if (causeDepth < 0) {
+            throw new IllegalArgumentException("Cause depth must not be negative but was " + causeDepth);
+        }
+
+        return new ProblemDetailsWriter(typeBase, status, causeDepth);
+    }
+
+    /**
+     * Write the failure to the writer. The writer is not flushed or closed.
+     */
+
+    public void write(Failure<?> failure, Writer out) throws IOException
+    {
+        write(failure, new WriterSink(out));
+    }
+
+    /**
+     * Write the failure to the stream as UTF-8. The stream is not flushed or closed.
+     */
+
+    public void write(Failure<?> failure, OutputStream out) throws IOException
+    {
+        write(failure, new StreamSink(out));
+    }
+
+    private void write(Failure<?> failure, Sink out) throws IOException
+    {
+        var type = failure.type();
+        var typeTitle = type.title();
+
+        out.append("{\"type\":\"");
+
+        if (typeTitle == null || typeTitle.isEmpty()) {
+            out.append("about:blank");
+        }
+        else {
+            escaped(typeBase, out);
+            percentEncoded(typeTitle, out);
+        }
+
+        var title = failure.title() == null || failure.title().isEmpty() ? typeTitle : failure.title();
+
+        if (title != null && !title.isEmpty()) {
+            out.append("\",\"title\":\"");
+            escaped(title, out);
+        }
+
+        out.append('"');
+
+        var code = status.applyAsInt(type);
+
+        if (code != 0) {
+            out.append(",\"status\":");
+            out.append(Integer.toString(code));
+        }
+
+        var detail = failure.detail();
+
+        if (detail != null && !detail.isEmpty()) {
+            out.append(",\"detail\":\"");
+            escaped(detail, out);
+            out.append('"');
+        }
+
+        Throwable cause = failure.cause();
+
+        if (cause != null && causeDepth > 0) {
+            out.append(",\"causes\":[");
+
+            for (int depth = 0; cause != null && depth < causeDepth; depth++) {
+                if (depth > 0) {
+                    out.append(',');
+                }
+
+                out.append("{\"class\":\"");
+                escaped(cause.getClass().getName(), out);
+                out.append('"');
+
+                if (cause.getMessage() != null) {
+                    out.append(",\"message\":\"");
+                    escaped(cause.getMessage(), out);
+                    out.append('"');
+                }
+
+                out.append('}');
+
+                cause = cause.getCause() == cause ? null : cause.getCause();
+            }
+
+            out.append(']');
+        }
+
+        out.append('}');
+    }
+
+    private static void escaped(CharSequence text, Sink out) throws IOException
+    {
+        var length = text.length();
+
+        for (int i = 0; i < length; i++) {
+            var c = text.charAt(i);
+
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (c < 0x20 || c == '\u2028' || c == '\u2029') {
+                        out.append("\\u");
+                        out.append(HEX[(c >> 12) & 0xF]);
+                        out.append(HEX[(c >> 8) & 0xF]);
+                        out.append(HEX[(c >> 4) & 0xF]);
+                        out.append(HEX[c & 0xF]);
+                    }
+                    else {
+                        out.append(c);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Write the text as a URI path segment: unreserved characters as they are and everything else as percent-encoded
+     * UTF-8. The result needs no JSON escaping. An unpaired surrogate is written as an encoded {@code ?}.
+     */
+
+    private static void percentEncoded(String text, Sink out) throws IOException
+    {
+        var length = text.length();
+
+        for (int i = 0; i < length; ) {
+            var codePoint = text.codePointAt(i);
+            i += Character.charCount(codePoint);
+
+            if (isUnreserved(codePoint)) {
+                out.append((char) codePoint);
+            }
+            else if (codePoint < 0x80) {
+                percent(codePoint, out);
+            }
+            else if (codePoint < 0x800) {
+                percent(0xC0 | (codePoint >> 6), out);
+                percent(0x80 | (codePoint & 0x3F), out);
+            }
+            else if (Character.isSurrogate((char) codePoint) && codePoint < 0x10000) {
+                percent('?', out);
+            }
+            else if (codePoint < 0x10000) {
+                percent(0xE0 | (codePoint >> 12), out);
+                percent(0x80 | ((codePoint >> 6) & 0x3F), out);
+                percent(0x80 | (codePoint & 0x3F), out);
+            }
+            else {
+                percent(0xF0 | (codePoint >> 18), out);
+                percent(0x80 | ((codePoint >> 12) & 0x3F), out);
+                percent(0x80 | ((codePoint >> 6) & 0x3F), out);
+                percent(0x80 | (codePoint & 0x3F), out);
+            }
+        }
+    }
+
+    private static boolean isUnreserved(int c)
+    {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '-' || c == '.' || c == '_' || c == '~';
+    }
+
+    private static void percent(int b, Sink out) throws IOException
+    {
+        out.append('%');
+        out.append(PERCENT_HEX[b >> 4]);
+        out.append(PERCENT_HEX[b & 0xF]);
+    }
+
+    /**
+     * Where the characters go.
+     */
+
+    private interface Sink
+    {
+        void append(char c) throws IOException;
+
+        default void append(String text) throws IOException
+        {
+            for (int i = 0; i < text.length(); i++) {
+                append(text.charAt(i));
+            }
+        }
+    }
+
+    private record WriterSink(Writer out) implements Sink
+    {
+        @Override
+        public void append(char c) throws IOException
+        {
+            out.write(c);
+        }
+
+        @Override
+        public void append(String text) throws IOException
+        {
+            out.write(text);
+        }
+    }
+
+    /**
+     * Encodes characters to UTF-8 as they arrive, holding on to a high surrogate until its pair comes.
+     */
+
+    private static final class StreamSink implements Sink
+    {
+        private final OutputStream out;
+        private char highSurrogate;
+
+        StreamSink(OutputStream out)
+        {
+            this.out = out;
+        }
+
+        @Override
+        public void append(char c) throws IOException
+        {
+            if (highSurrogate != 0) {
+                var high = highSurrogate;
+                highSurrogate = 0;
+
+                if (Character.isLowSurrogate(c)) {
+                    var codePoint = Character.toCodePoint(high, c);
+                    out.write(0xF0 | (codePoint >> 18));
+                    out.write(0x80 | ((codePoint >> 12) & 0x3F));
+                    out.write(0x80 | ((codePoint >> 6) & 0x3F));
+                    out.write(0x80 | (codePoint & 0x3F));
+                    return;
+                }
+
+                out.write('?');
+            }
+
+            if (c < 0x80) {
+                out.write(c);
+            }
+            else if (c < 0x800) {
+                out.write(0xC0 | (c >> 6));
+                out.write(0x80 | (c & 0x3F));
+            }
+            else if (Character.isHighSurrogate(c)) {
+                highSurrogate = c;
+            }
+            else if (Character.isLowSurrogate(c)) {
+                out.write('?');
+            }
+            else {
+                out.write(0xE0 | (c >> 12));
+                out.write(0x80 | ((c >> 6) & 0x3F));
+                out.write(0x80 | (c & 0x3F));
+            }
+        }
+    }
+}
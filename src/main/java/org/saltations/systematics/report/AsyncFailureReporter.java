@@ -0,0 +1,233 @@
+package org.saltations.systematics.report;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import org.saltations.systematics.core.Failure;
+import org.saltations.systematics.core.Outcome;
+import org.saltations.systematics.core.OutcomeObserver;
+import org.saltations.systematics.core.OutcomeObservers;
+
+/**
+ * Hands failures to a consumer on a background thread, so that logging, metrics or exporting them adds nothing to the
+ * latency of the code that produced them.
+ * <p>
+ * Failures go into a {@link MpscRingBuffer}. Reporting never blocks: when the buffer is full the failure is dropped and
+ * counted. A single daemon thread drains the buffer in batches and passes each failure to the consumer; anything
+ * thrown by the consumer, errors included, is counted and otherwise ignored. When the buffer is empty the thread parks
+ * until a producer wakes it, or for at most the idle wait.
+ * </p>
+ * <p>
+ * Install the reporter to report every failure created through {@link org.saltations.systematics.core.Outcomes} and
+ * {@link Outcome#attempt}. Closing it stops the thread after delivering what is already in the buffer: every failure
+ * counted as reported is delivered. A report that races the close returns false and is counted as dropped, though its
+ * failure may still reach the consumer.
+ * </p>
+ */
+
+public final class AsyncFailureReporter implements OutcomeObserver, AutoCloseable
+{
+    private static final int BATCH_SIZE = 256;
+
+    private final MpscRingBuffer<Failure<?>> buffer;
+    private final Consumer<? super Failure<?>> consumer;
+    private final long idleWaitNanos;
+    private final Thread thread;
+
+    private final LongAdder reported = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder consumerErrors = new LongAdder();
+
+    private volatile boolean parked;
+    private volatile boolean running = true;
+
+    private AsyncFailureReporter(int capacity, Consumer<? super Failure<?>> consumer, Duration idleWait)
+    {
+        this.buffer = new MpscRingBuffer<>(capacity);
+        this.consumer = consumer;
+        this.idleWaitNanos = idleWait.toNanos();
+        this.thread = Thread.ofPlatform().daemon().name("async-failure-reporter").unstarted(this::run);
+    }
+
+    /**
+     * Start a reporter with a buffer of the given capacity that waits at most 100 ms between checks when idle.
+     *
+     * @param capacity The number of failures the buffer holds before dropping.
+     * @param consumer Receives the failures on the reporter thread.
+     */
+
+    public static AsyncFailureReporter start(int capacity, Consumer<? super Failure<?>> consumer)
+    {
+        return start(capacity, consumer, Duration.ofMillis(100));
+    }
+
+    /**
+     * Start a reporter.
+     *
+     * @param capacity The number of failures the buffer holds before dropping.
+     * @param consumer Receives the failures on the reporter thread.
+     * @param idleWait The longest the reporter thread parks when the buffer is empty.
+     */
+
+    public static AsyncFailureReporter start(int capacity, Consumer<? super Failure<?>> consumer, Duration idleWait)
+    {
+        var reporter = new AsyncFailureReporter(capacity, consumer, idleWait);
+        reporter.thread.start();
+
+        return reporter;
+    }
+
+    /**
+     * Start reporting every observed failure by registering with {@link OutcomeObservers}.
+     *
+     * @return this reporter.
+     */
+
+    public AsyncFailureReporter install()
+    {
+        OutcomeObservers.register(this);
+        return this;
+    }
+
+    /**
+     * Stop reporting observed failures.
+     */
+
+    public void uninstall()
+    {
+        OutcomeObservers.unregister(this);
+    }
+
+    @Override
+    public void created(Outcome<?> outcome)
+    {
+        if (outcome instanceof Failure<?> failure) {
+            report(failure);
+        }
+    }
+
+    /**
+     * Queue the failure for the consumer. Never blocks.
+     *
+     * @return true if queued, false if the buffer was full or the reporter is closed and the failure was dropped.
+     */
+
+    public boolean report(Failure<?> failure)
+    {
+        // Checked again after the offer: only a failure queued while still running is sure to be in the final drain
+        if (!running || !buffer.offer(failure) || !running) {
+            dropped.increment();
+            return false;
+        }
+
+        reported.increment();
+
+        if (parked) {
+            LockSupport.unpark(thread);
+        }
+
+        return true;
+    }
+
+    /**
+     * The number of failures queued.
+     */
+
+    public long reported()
+    {
+        return reported.sum();
+    }
+
+    /**
+     * The number of failures dropped.
+     */
+
+    public long dropped()
+    {
+        return dropped.sum();
+    }
+
+    /**
+     * The number of times the consumer threw.
+     */
+
+    public long consumerErrors()
+    {
+        return consumerErrors.sum();
+    }
+
+    /**
+     * Stop accepting failures, unregister if installed, and wait for the failures already queued to be delivered. Waits
+     * for as long as the consumer takes to deliver them.
+     */
+
+    @Override
+    public void close()
+    {
+        uninstall();
+        running = false;
+        LockSupport.unpark(thread);
+
+        try {
+            thread.join();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run()
+    {
+        while (running) {
+            if (buffer.drain(this::deliver, BATCH_SIZE) > 0) {
+                continue;
+            }
+
+            parked = true;
+
+            // Check again after announcing so a failure queued in between is not left waiting for the idle wait
+            if (buffer.size() == 0 && running) {
+                LockSupport.parkNanos(this, idleWaitNanos);
+            }
+
+            parked = false;
+        }
+
+        drainRemaining();
+    }
+
+    /**
+     * Deliver what was queued before closing. A producer that has claimed a slot but not yet filled it holds up the
+     * slots behind it, so wait for it, but for no longer than the idle wait without progress.
+     */
+
+    private void drainRemaining()
+    {
+        var waitingSince = System.nanoTime();
+
+        while (buffer.size() > 0) {
+            if (buffer.drain(this::deliver, BATCH_SIZE) > 0) {
+                waitingSince = System.nanoTime();
+            }
+            else if (System.nanoTime() - waitingSince > idleWaitNanos) {
+                return;
+            }
+            else {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    private void deliver(Failure<?> failure)
+    {
+        try {
+            consumer.accept(failure);
+        }
+        catch (Throwable e) {
+            // Even an error must not end the thread, or every later report would fill the buffer and be dropped
+            consumerErrors.increment();
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package org.saltations.systematics.report;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import org.saltations.systematics.core.Failure;
+import org.saltations.systematics.core.FailureType;
+import org.saltations.systematics.core.Outcome;
+import org.saltations.systematics.core.OutcomeObserver;
+import org.saltations.systematics.core.OutcomeObservers;
+
+/**
+ * Folds identical failures into one counted log line per interval.
+ * <p>
+ * Failures are identical when they have the same {@link FailureType}, title and cause class. Recording one is a map
+ * lookup and a {@link LongAdder} increment, so a storm of the same failure from many threads does not contend. Every
+ * interval the aggregator hands the sink one line per key that occurred, with the count and the detail of the first
+ * occurrence as an example:
+ * </p>
+ * <pre>
+ * 18342 x timeout-failure / timeout-failure (no cause) in 10s: Did not complete within 250 ms
+ * </pre>
+ * <p>
+ * The number of distinct keys is capped; once reached, further keys are counted together under an
+ * {@code (other failures)} line. A key that stays idle for a whole interval is forgotten to make room, and an
+ * occurrence recorded at the very moment it is forgotten may go uncounted.
+ * </p>
+ * Install the aggregator to record every failure created through {@link org.saltations.systematics.core.Outcomes} and
+ * {@link Outcome#attempt}.
+ */
+
+public final class FailureLogAggregator implements OutcomeObserver, AutoCloseable
+{
+    private static final Key OVERFLOW = new Key(null, "(other failures)", null);
+
+    private final Duration interval;
+    private final Consumer<String> sink;
+    private final int maxKeys;
+    private final ConcurrentHashMap<Key, Summary> summaries = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * @param interval How often summaries are emitted once started.
+     * @param sink Receives the summary lines, e.g. a logger method.
+     * @param maxKeys The most distinct keys tracked before further keys are counted together.
+     */
+
+    public FailureLogAggregator(Duration interval, Consumer<String> sink, int maxKeys)
+    {
+        if (interval == null || interval.isNegative() || interval.isZero()) {
+            throw new IllegalArgumentException("Interval must be positive but was " + interval);
+        }
+
+        if (maxKeys < 1) {
+            throw new IllegalArgumentException("Max keys must be positive but was " + maxKeys);
+        }
+
+        this.interval = interval;
+        this.sink = sink;
+        this.maxKeys = maxKeys;
+    }
+
+    /**
+     * An aggregator tracking up to 1024 distinct keys.
+     */
+
+    public FailureLogAggregator(Duration interval, Consumer<String> sink)
+    {
+        this(interval, sink, 1024);
+    }
+
+    /**
+     * Start emitting summaries every interval on a daemon thread.
+     *
+     * @return this aggregator.
+     */
+
+    public synchronized FailureLogAggregator start()
+    {
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> Thread.ofPlatform().daemon().name("failure-log-aggregator").unstarted(runnable));
+            scheduler.scheduleAtFixedRate(this::flush, interval.toNanos(), interval.toNanos(), TimeUnit.NANOSECONDS);
+        }
+
+        return this;
+    }
+
+    /**
+     * Start recording every observed failure by registering with {@link OutcomeObservers}.
+     *
+     * @return this aggregator.
+     */
+
+    public FailureLogAggregator install()
+    {
+        OutcomeObservers.register(this);
+        return this;
+    }
+
+    /**
+     * Stop recording observed failures.
+     */
+
+    public void uninstall()
+    {
+        OutcomeObservers.unregister(this);
+    }
+
+    @Override
+    public void created(Outcome<?> outcome)
+    {
+        if (outcome instanceof Failure<?> failure) {
+            record(failure);
+        }
+    }
+
+    /**
+     * Count the failure under its key.
+     */
+
+    public void record(Failure<?> failure)
+    {
+        var cause = failure.cause();
+        var key = new Key(failure.type(), failure.title(), cause == null ? null : cause.getClass());
+        var summary = summaries.get(key);
+
+        if (summary == null) {
+            summary = summaries.size() < maxKeys ? summaries.computeIfAbsent(key, ignored -> new Summary(failure)) : summaries.computeIfAbsent(OVERFLOW, ignored -> new Summary(null));
+        }
+
+        summary.count.increment();
+    }
+
+    /**
+     * Emit a line for every key counted since the last flush and reset the counts.
+     */
+
+    public void flush()
+    {
+        for (var entry : summaries.entrySet()) {
+            var summary = entry.getValue();
+            var count = summary.count.sumThenReset();
+
+            if (count == 0) {
+                summaries.remove(entry.getKey(), summary);
+                continue;
+            }
+
+            try {
+                sink.accept(line(entry.getKey(), summary, count));
+            }
+            catch (RuntimeException e) {
+                // A failing sink must not stop the remaining lines or the schedule
+            }
+        }
+    }
+
+    /**
+     * Stop the schedule, unregister if installed, and emit what has been counted so far.
+     */
+
+    @Override
+    public synchronized void close()
+    {
+        uninstall();
+
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+
+        flush();
+    }
+
+    private String line(Key key, Summary summary, long count)
+    {
+        var line = new StringBuilder(128).append(count).append(" x ");
+
+        if (key.type == null) {
+            line.append(key.title);
+        }
+        else {
+            line.append(key.type.title()).append(" / ").append(key.title)
+                .append(" (").append(key.causeClass == null ? "no cause" : key.causeClass.getName()).append(')');
+        }
+
+        line.append(" in ").append(format(interval));
+
+        if (summary.example != null) {
+            var detail = summary.example.detail();
+
+            if (detail != null && !detail.isEmpty()) {
+                line.append(": ").append(detail);
+            }
+        }
+
+        return line.toString();
+    }
+
+    private static String format(Duration duration)
+    {
+        return duration.toMillis() % 1000 == 0 ? duration.toSeconds() + "s" : duration.toMillis() + "ms";
+    }
+
+    private record Key(FailureType type, String title, Class<?> causeClass) {}
+
+    /**
+     * The running count for a key and the first failure seen for it.
+     */
+
+    private static final class Summary
+    {
+        private final LongAdder count = new LongAdder();
+        private final Failure<?> example;
+
+        Summary(Failure<?> example)
+        {
+            this.example = example;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package org.saltations.systematics.report;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * A bounded, lock-free queue for many producers and a single consumer.
+ * <p>
+ * This is Dmitry Vyukov's bounded queue: every slot carries a sequence number that tells producers whether the slot
+ * is free for the current lap and tells the consumer whether it has been filled. Producers claim a slot with one
+ * compare-and-set on the tail and never wait; when the queue is full {@link #offer(Object)} returns false straight
+ * away. Only one thread may call {@link #poll()} and {@link #drain(Consumer, int)}.
+ * </p>
+ *
+ * @param <E> The type of the elements.
+ */
+
+public final class MpscRingBuffer<E>
+{
+    private final int mask;
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+
+    private long head;
+
+    /**
+     * @param capacity The number of elements the queue holds, rounded up to a power of two.
+     */
+
+    public MpscRingBuffer(int capacity)
+    {
+        if (capacity < 2 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be between 2 and 2^30 but was " + capacity);
+        }
+
+        var size = Integer.highestOneBit(capacity - 1) << 1;
+
+        this.mask = size - 1;
+        this.elements = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+
+        for (int i = 0; i < size; i++) {
+            sequences.setPlain(i, i);
+        }
+    }
+
+    /**
+     * The number of elements the queue holds.
+     */
+
+    public int capacity()
+    {
+        return mask + 1;
+    }
+
+    /**
+     * Add the element if there is room. Never blocks.
+     *
+     * @return true if the element was added, false if the queue was full.
+     */
+
+    public boolean offer(E element)
+    {
+        if (element == null) {
+            throw new NullPointerException("Element cannot be null");
+        }
+
+        while (true) {
+            var position = tail.get();
+            var index = (int) (position & mask);
+            var difference = sequences.getAcquire(index) - position;
+
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements.setPlain(index, element);
+                    sequences.setRelease(index, position + 1);
+                    return true;
+                }
+            }
+            else if (difference < 0) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Take the oldest element. Consumer thread only.
+     *
+     * @return the element, or null if there is none ready.
+     */
+
+    public E poll()
+    {
+        var index = (int) (head & mask);
+
+        if (sequences.getAcquire(index) != head + 1) {
+            return null;
+        }
+
+        var element = elements.getPlain(index);
+
+        elements.setPlain(index, null);
+        sequences.setRelease(index, head + mask + 1);
+        head++;
+
+        return element;
+    }
+
+    /**
+     * Take up to the given number of elements, oldest first, and hand each to the consumer. Consumer thread only.
+     *
+     * @return the number of elements taken.
+     */
+
+    public int drain(Consumer<? super E> consumer, int limit)
+    {
+        var count = 0;
+
+        while (count < limit) {
+            var element = poll();
+
+            if (element == null) {
+                break;
+            }
+
+            consumer.accept(element);
+            count++;
+        }
+
+        return count;
+    }
+
+    /**
+     * An estimate of the number of elements waiting.
+     */
+
+    public int size()
+    {
+        return (int) Math.max(0L, Math.min(tail.get() - head, capacity()));
+    }
+}
@@ -0,0 +1,93 @@
+package org.saltations.systematics.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@link ConcurrencyLimit} that tunes itself with additive increase, multiplicative decrease.
+ * <p>
+ * A call that is dropped or takes longer than the latency threshold multiplies the limit by the backoff ratio. Every
+ * {@code limit} calls that complete in time while the bulkhead is at least half used raise the limit by one, so the
+ * limit grows by roughly one per round trip at full load and does not creep up while the resource is idle.
+ * </p>
+ */
+
+public final class AimdLimit implements ConcurrencyLimit
+{
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+
+    private final AtomicInteger limit;
+    private final AtomicInteger goodSamples = new AtomicInteger();
+
+    /**
+     * @param initialLimit The limit to start with.
+     * @param minLimit The limit never drops below this.
+     * @param maxLimit The limit never grows above this.
+     * @param latencyThreshold Calls slower than this count as a sign of overload.
+     * @param backoffRatio What the limit is multiplied by on overload, between 0 and 1.
+     */
+
+    public AimdLimit(int initialLimit, int minLimit, int maxLimit, Duration latencyThreshold, double backoffRatio)
+    {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= min <= initial <= max but were " + minLimit + ", " + initialLimit + ", " + maxLimit);
+        }
+
+        if (backoffRatio <= 0.0 || backoffRatio >= 1.0) {
+            throw new IllegalArgumentException("Backoff ratio must be in (0, 1) but was " + backoffRatio);
+        }
+
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.backoffRatio = backoffRatio;
+        this.limit = new AtomicInteger(initialLimit);
+    }
+
+    /**
+     * Starts at 20 concurrent calls, ranges from 1 to 200 and halves when a call takes longer than the threshold.
+     */
+
+    public static AimdLimit withLatencyThreshold(Duration latencyThreshold)
+    {
+        return new AimdLimit(20, 1, 200, latencyThreshold, 0.5);
+    }
+
+    @Override
+    public int current()
+    {
+        return limit.get();
+    }
+
+    @Override
+    public boolean isAdaptive()
+    {
+        return true;
+    }
+
+    @Override
+    public void onSample(long latencyNanos, int inFlight, boolean dropped)
+    {
+        var current = limit.get();
+
+        if (dropped || latencyNanos > latencyThresholdNanos) {
+            var decreased = Math.max(minLimit, (int) (current * backoffRatio));
+
+            if (decreased < current && limit.compareAndSet(current, decreased)) {
+                goodSamples.set(0);
+            }
+            return;
+        }
+
+        if (inFlight * 2 < current || current >= maxLimit) {
+            return;
+        }
+
+        if (goodSamples.incrementAndGet() >= current && limit.compareAndSet(current, current + 1)) {
+            goodSamples.set(0);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package org.saltations.systematics.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decides how long to wait before the next retry.
+ */
+
+@FunctionalInterface
+public interface Backoff
+{
+    /**
+     * Compute the delay before the given retry.
+     *
+     * @param retry The number of the retry, starting at 1 for the retry after the first attempt.
+     * @param previousDelayNanos The delay used before the previous retry, 0 before the first retry.
+     * @return the delay in nanoseconds.
+     */
+
+    long delayNanos(int retry, long previousDelayNanos);
+
+    /**
+     * Wait the same time before every retry.
+     *
+     * @param delay The delay.
+     */
+
+    static Backoff fixed(Duration delay)
+    {
+        var nanos = requireNotNegative(delay, "Delay");
+
+        return (retry, previous) -> nanos;
+    }
+
+    /**
+     * Multiply the delay by the given factor after every retry, up to a maximum.
+     *
+     * @param initial The delay before the first retry.
+     * @param multiplier The factor applied to the delay for each following retry. Must be at least 1.
+     * @param max The maximum delay.
+     */
+
+    static Backoff exponential(Duration initial, double multiplier, Duration max)
+    {
+        var initialNanos = requireNotNegative(initial, "Initial delay");
+        var maxNanos = requireNotNegative(max, "Max delay");
+
+        if (multiplier < 1.0) {
+            throw new IllegalArgumentException("Multiplier must be at least 1 but was " + multiplier);
+        }
+
+        return (retry, previous) -> {
+            var delay = initialNanos * Math.pow(multiplier, retry - 1);
+            return delay >= maxNanos ? maxNanos : (long) delay;
+        };
+    }
+
+    /**
+     * "Decorrelated jitter": each delay is random between the base delay and three times the previous delay, capped.
+     * Spreads out retries from many callers that failed at the same moment.
+     *
+     * @param base The minimum delay.
+     * @param cap The maximum delay.
+     */
+
+    static Backoff decorrelatedJitter(Duration base, Duration cap)
+    {
+        var baseNanos = requireNotNegative(base, "Base delay");
+        var capNanos = requireNotNegative(cap, "Cap");
+
+        if (capNanos < baseNanos) {
+            throw new IllegalArgumentException("Cap must not be less than the base delay");
+        }
+
+        return (retry, previous) -> {
+            var upper = Math.max(baseNanos, Math.min(capNanos, Math.max(previous, baseNanos) * 3));
+            return upper == baseNanos ? baseNanos : ThreadLocalRandom.current().nextLong(baseNanos, upper + 1);
+        };
+    }
+
+    private static long requireNotNegative(Duration duration, String name)
+    {
+        if (duration == null || duration.isNegative()) {
+            throw new IllegalArgumentException(name + " must not be negative but was " + duration);
+        }
+
+        return duration.toNanos();
+    }
+}
@@ -0,0 +1,178 @@
+package org.saltations.systematics.resilience;
+
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import org.saltations.systematics.core.BasicFailureType;
+import org.saltations.systematics.core.Failure;
+import org.saltations.systematics.core.MurphysSupplier;
+import org.saltations.systematics.core.Outcome;
+import org.saltations.systematics.core.Outcomes;
+
+/**
+ * Caps the number of concurrent attempts against a named resource.
+ * <p>
+ * Calls over the limit are not queued. They get a {@link ResilienceFailureType#BULKHEAD_FULL} failure straight away so
+ * the calling thread is free to do something else, and one slow dependency cannot tie up every thread in the pool.
+ * The rejection failure is preallocated, so rejecting costs a read and a compare-and-set. Each rejection is still
+ * reported to the {@linkplain org.saltations.systematics.core.OutcomeObservers observers}.
+ * </p>
+ * The limit is either fixed or adapts to the latency of the calls, see {@link AimdLimit}. Calls are only timed when the
+ * limit is adaptive.
+ */
+
+public final class Bulkhead
+{
+    private final String name;
+    private final ConcurrencyLimit limit;
+    private final boolean adaptive;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile Rejection rejection;
+
+    public Bulkhead(String name, ConcurrencyLimit limit)
+    {
+        this.name = name;
+        this.limit = limit;
+        this.adaptive = limit.isAdaptive();
+        this.rejection = rejection(limit.current());
+    }
+
+    /**
+     * A bulkhead that allows at most {@code maxConcurrent} calls at a time.
+     */
+
+    public static Bulkhead fixed(String name, int maxConcurrent)
+    {
+        return new Bulkhead(name, ConcurrencyLimit.fixed(maxConcurrent));
+    }
+
+    /**
+     * The name of the protected resource.
+     */
+
+    public String name()
+    {
+        return name;
+    }
+
+    /**
+     * The current limit on the number of concurrent calls.
+     */
+
+    public int limit()
+    {
+        return limit.current();
+    }
+
+    /**
+     * The number of calls currently running.
+     */
+
+    public int inFlight()
+    {
+        return inFlight.get();
+    }
+
+    /**
+     * Whether a failure is a sign that the protected resource is overloaded: a {@link BasicFailureType#TIMEOUT}, a
+     * rejection by another resilience decorator, or a failure caused by a {@link TimeoutException}. Other failures, such
+     * as validation errors, say nothing about load.
+     */
+
+    public static boolean isOverload(Failure<?> failure)
+    {
+        return failure.type() == BasicFailureType.TIMEOUT
+                || failure.type() instanceof ResilienceFailureType
+                || failure.cause() instanceof TimeoutException;
+    }
+
+    /**
+     * Attempt the operation if the bulkhead has room for it. An adaptive limit backs off when the call is slower than its
+     * latency threshold or fails with an {@linkplain #isOverload(Failure) overload} failure.
+     *
+     * @param supplier The operation.
+     * @param <T> The type of the value being supplied.
+     * @return the outcome of the operation, or the {@link ResilienceFailureType#BULKHEAD_FULL} failure if it was not
+     * attempted.
+     */
+
+    public <T> Outcome<T> attempt(MurphysSupplier<T> supplier)
+    {
+        return attempt(supplier, Bulkhead::isOverload);
+    }
+
+    /**
+     * Attempt the operation if the bulkhead has room for it.
+     *
+     * @param supplier The operation.
+     * @param isDrop Decides whether a failure of the operation signals overload and should make an adaptive limit back
+     * off, in addition to the latency threshold. Not consulted for a fixed limit.
+     * @param <T> The type of the value being supplied.
+     * @return the outcome of the operation, or the {@link ResilienceFailureType#BULKHEAD_FULL} failure if it was not
+     * attempted.
+     */
+
+    public <T> Outcome<T> attempt(MurphysSupplier<T> supplier, Predicate<Failure<?>> isDrop)
+    {
+        var current = limit.current();
+        int running;
+
+        do {
+            running = inFlight.get();
+
+            if (running >= current) {
+                return rejected(current);
+            }
+        }
+        while (!inFlight.compareAndSet(running, running + 1));
+
+        if (!adaptive) {
+            try {
+                return Outcome.attempt(supplier);
+            }
+            finally {
+                inFlight.decrementAndGet();
+            }
+        }
+
+        var started = System.nanoTime();
+        Outcome<T> outcome;
+
+        try {
+            outcome = Outcome.attempt(supplier);
+        }
+        finally {
+            inFlight.decrementAndGet();
+        }
+
+        var dropped = outcome instanceof Failure<T> failure && isDrop.test(failure);
+        limit.onSample(System.nanoTime() - started, running + 1, dropped);
+
+        return outcome;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Outcome<T> rejected(int current)
+    {
+        var cached = rejection;
+
+        // The detail names the limit, so only build a new failure when an adaptive limit has moved
+        if (cached.limit != current) {
+            cached = rejection(current);
+            rejection = cached;
+        }
+
+        return (Outcome<T>) (Outcome<?>) Outcomes.observed(cached.failure);
+    }
+
+    private Rejection rejection(int current)
+    {
+        var type = ResilienceFailureType.BULKHEAD_FULL;
+
+        return new Rejection(current, new Failure<>(type, type.title(), type.compiledTemplate().render(name, current), null));
+    }
+
+    private record Rejection(int limit, Failure<Object> failure) {}
+}
@@ -0,0 +1,53 @@
+package org.saltations.systematics.resilience;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Holds one {@link Bulkhead} per named resource, creating each the first time it is asked for.
+ */
+
+public final class BulkheadRegistry
+{
+    private final Function<String, ConcurrencyLimit> limits;
+    private final ConcurrentHashMap<String, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+
+    /**
+     * @param limits Creates the limit for a resource from its name.
+     */
+
+    public BulkheadRegistry(Function<String, ConcurrencyLimit> limits)
+    {
+        this.limits = limits;
+    }
+
+    /**
+     * A registry that gives every resource the same fixed limit.
+     */
+
+    public static BulkheadRegistry fixed(int maxConcurrent)
+    {
+        return new BulkheadRegistry(name -> ConcurrencyLimit.fixed(maxConcurrent));
+    }
+
+    /**
+     * Get the bulkhead for the resource, creating it if needed.
+     */
+
+    public Bulkhead bulkhead(String name)
+    {
+        var existing = bulkheads.get(name);
+
+        return existing != null ? existing : bulkheads.computeIfAbsent(name, key -> new Bulkhead(key, limits.apply(key)));
+    }
+
+    /**
+     * A read-only view of the bulkheads created so far, by resource name.
+     */
+
+    public Map<String, Bulkhead> bulkheads()
+    {
+        return Map.copyOf(bulkheads);
+    }
+}
@@ -0,0 +1,237 @@
+package org.saltations.systematics.resilience;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.saltations.systematics.core.Failure;
+import org.saltations.systematics.core.MurphysSupplier;
+import org.saltations.systematics.core.Outcome;
+import org.saltations.systematics.core.Outcomes;
+
+/**
+ * Stops calling an operation that keeps failing and fails fast instead.
+ * <p>
+ * The breaker is a lock-free state machine:
+ * </p>
+ * <dl>
+ *     <dt>Closed</dt>
+ *     <dd>Calls go through and their outcomes are recorded in a sliding window of the most recent calls. When the
+ *     failure rate over the window reaches the threshold, the breaker opens.</dd>
+ *     <dt>Open</dt>
+ *     <dd>Calls are not made. A preallocated {@link ResilienceFailureType#CIRCUIT_OPEN} failure is returned right
+ *     away, so rejecting costs a clock read and nothing is allocated. Each rejection is still reported to the
+ *     {@linkplain org.saltations.systematics.core.OutcomeObservers observers}. Once the open duration has passed the
+ *     breaker becomes half open.</dd>
+ *     <dt>Half open</dt>
+ *     <dd>A limited number of trial calls go through; the rest are rejected as if open. If all trial calls succeed the
+ *     breaker closes with an empty window, the first failure opens it again.</dd>
+ * </dl>
+ * <p>
+ * Every state change swaps an immutable phase object with a compare-and-set, and each closed phase has its own window,
+ * so late recordings from a previous phase can never corrupt the current one.
+ */
+
+public final class CircuitBreaker
+{
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final String name;
+    private final CircuitBreakerConfig config;
+    private final long openDurationNanos;
+    private final Failure<Object> openFailure;
+    private final AtomicReference<Phase> phase;
+
+    public CircuitBreaker(String name)
+    {
+        this(name, CircuitBreakerConfig.defaults());
+    }
+
+    public CircuitBreaker(String name, CircuitBreakerConfig config)
+    {
+        this.name = name;
+        this.config = config;
+        this.openDurationNanos = config.openDuration().toNanos();
+
+        var type = ResilienceFailureType.CIRCUIT_OPEN;
+        this.openFailure = new Failure<>(type, type.title(), type.compiledTemplate().render(name), null);
+        this.phase = new AtomicReference<>(Phase.closed(config.windowSize()));
+    }
+
+    /**
+     * The name of the protected resource.
+     */
+
+    public String name()
+    {
+        return name;
+    }
+
+    /**
+     * The current state of the breaker.
+     */
+
+    public State state()
+    {
+        return phase.get().state;
+    }
+
+    /**
+     * The failure rate over the current window, or 0 while the breaker is not closed.
+     */
+
+    public double failureRate()
+    {
+        var current = phase.get();
+
+        return current.state == State.CLOSED ? current.window.failureRate() : 0.0;
+    }
+
+    /**
+     * Attempt the operation, unless the breaker is open.
+     *
+     * @param supplier The operation.
+     * @param <T> The type of the value being supplied.
+     * @return the outcome of the operation, or the {@link ResilienceFailureType#CIRCUIT_OPEN} failure if it was not
+     * attempted.
+     */
+
+    public <T> Outcome<T> attempt(MurphysSupplier<T> supplier)
+    {
+        while (true) {
+            var current = phase.get();
+
+            switch (current.state) {
+                case CLOSED -> {
+                    var outcome = Outcome.attempt(supplier);
+                    recordClosed(current, outcome.isFailure());
+                    return outcome;
+                }
+                case OPEN -> {
+                    var now = System.nanoTime();
+
+                    if (now - current.sinceNanos < openDurationNanos) {
+                        return rejected();
+                    }
+
+                    // Only the caller that wins the transition proceeds with the new phase, the others re-read it
+                    phase.compareAndSet(current, Phase.halfOpen(now, config.halfOpenPermits()));
+                }
+                case HALF_OPEN -> {
+                    // Never below zero, so rejected callers cannot wrap the count around
+                    if (current.permits.getAndUpdate(p -> p > 0 ? p - 1 : p) <= 0) {
+                        return rejected();
+                    }
+
+                    var outcome = Outcome.attempt(supplier);
+                    recordHalfOpen(current, outcome.isFailure());
+                    return outcome;
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Outcome<T> rejected()
+    {
+        return (Outcome<T>) (Outcome<?>) Outcomes.observed(openFailure);
+    }
+
+    private void recordClosed(Phase current, boolean failed)
+    {
+        var window = current.window;
+
+        window.record(failed);
+
+        if (failed && window.calls() >= config.minimumCalls() && window.failureRate() >= config.failureRateThreshold()) {
+            phase.compareAndSet(current, Phase.open(System.nanoTime()));
+        }
+    }
+
+    private void recordHalfOpen(Phase current, boolean failed)
+    {
+        if (failed) {
+            phase.compareAndSet(current, Phase.open(System.nanoTime()));
+        }
+        else if (current.successes.incrementAndGet() >= config.halfOpenPermits()) {
+            phase.compareAndSet(current, Phase.closed(config.windowSize()));
+        }
+    }
+
+    /**
+     * An immutable state of the breaker together with the counters that belong to it.
+     */
+
+    private static final class Phase
+    {
+        private final State state;
+        private final long sinceNanos;
+        private final Window window;
+        private final AtomicInteger permits;
+        private final AtomicInteger successes;
+
+        private Phase(State state, long sinceNanos, Window window, AtomicInteger permits, AtomicInteger successes)
+        {
+            this.state = state;
+            this.sinceNanos = sinceNanos;
+            this.window = window;
+            this.permits = permits;
+            this.successes = successes;
+        }
+
+        static Phase closed(int windowSize)
+        {
+            return new Phase(State.CLOSED, 0L, new Window(windowSize), null, null);
+        }
+
+        static Phase open(long nowNanos)
+        {
+            return new Phase(State.OPEN, nowNanos, null, null, null);
+        }
+
+        static Phase halfOpen(long nowNanos, int permits)
+        {
+            return new Phase(State.HALF_OPEN, nowNanos, null, new AtomicInteger(permits), new AtomicInteger());
+        }
+    }
+
+    /**
+     * A count based sliding window of the most recent calls. Each slot holds 1 for a failure and 0 for a success.
+     */
+
+    private static final class Window
+    {
+        private final AtomicIntegerArray slots;
+        private final AtomicLong calls = new AtomicLong();
+        private final AtomicInteger failures = new AtomicInteger();
+
+        Window(int size)
+        {
+            this.slots = new AtomicIntegerArray(size);
+        }
+
+        void record(boolean failed)
+        {
+            var value = failed ? 1 : 0;
+            var slot = (int) (calls.getAndIncrement() % slots.length());
+            var previous = slots.getAndSet(slot, value);
+
+            if (previous != value) {
+                failures.addAndGet(value - previous);
+            }
+        }
+
+        long calls()
+        {
+            return Math.min(calls.get(), slots.length());
+        }
+
+        double failureRate()
+        {
+            var recorded = calls();
+
+            return recorded == 0 ? 0.0 : (double) failures.get() / recorded;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package org.saltations.systematics.resilience;
+
+import java.time.Duration;
+
+/**
+ * The settings of a {@link CircuitBreaker}.
+ *
+ * @param failureRateThreshold The failure rate, between 0 and 1, at or above which the breaker opens.
+ * @param windowSize The number of most recent calls the failure rate is computed over.
+ * @param minimumCalls The number of calls that must be recorded before the failure rate is looked at.
+ * @param openDuration How long the breaker stays open before letting trial calls through.
+ * @param halfOpenPermits The number of trial calls let through while half open. All of them must succeed to close.
+ */
+
+public record CircuitBreakerConfig(double failureRateThreshold, int windowSize, int minimumCalls, Duration openDuration, int halfOpenPermits)
+{
+    public CircuitBreakerConfig
+    {
+        if (failureRateThreshold <= 0.0 || failureRateThreshold > 1.0) {
+            throw new IllegalArgumentException("Failure rate threshold must be in (0, 1] but was " + failureRateThreshold);
+        }
+
+        if (windowSize < 1 || minimumCalls < 1 || minimumCalls > windowSize) {
+            throw new IllegalArgumentException("Minimum calls must be between 1 and the window size but was " + minimumCalls + " of " + windowSize);
+        }
+
+        if (openDuration == null || openDuration.isNegative()) {
+            throw new IllegalArgumentException("Open duration must not be negative but was " + openDuration);
+        }
+
+        if (halfOpenPermits < 1) {
+            throw new IllegalArgumentException("Half open permits must be positive but was " + halfOpenPermits);
+        }
+    }
+
+    /**
+     * Opens at a 50% failure rate over the last 100 calls (once 20 have been made), stays open for 30 seconds and
+     * lets 5 trial calls through.
+     */
+
+    public static CircuitBreakerConfig defaults()
+    {
+        return new CircuitBreakerConfig(0.5, 100, 20, Duration.ofSeconds(30), 5);
+    }
+
+    public CircuitBreakerConfig withFailureRateThreshold(double failureRateThreshold)
+    {
+        return new CircuitBreakerConfig(failureRateThreshold, windowSize, minimumCalls, openDuration, halfOpenPermits);
+    }
+
+    public CircuitBreakerConfig withSlidingWindow(int windowSize, int minimumCalls)
+    {
+        return new CircuitBreakerConfig(failureRateThreshold, windowSize, minimumCalls, openDuration, halfOpenPermits);
+    }
+
+    public CircuitBreakerConfig withOpenDuration(Duration openDuration)
+    {
+        return new CircuitBreakerConfig(failureRateThreshold, windowSize, minimumCalls, openDuration, halfOpenPermits);
+    }
+
+    public CircuitBreakerConfig withHalfOpenPermits(int halfOpenPermits)
+    {
+        return new CircuitBreakerConfig(failureRateThreshold, windowSize, minimumCalls, openDuration, halfOpenPermits);
+    }
+}
@@ -0,0 +1,50 @@
+package org.saltations.systematics.resilience;
+
+/**
+ * Decides how many calls a {@link Bulkhead} lets run at the same time.
+ */
+
+public interface ConcurrencyLimit
+{
+    /**
+     * The current limit on the number of concurrent calls.
+     */
+
+    int current();
+
+    /**
+     * Whether the limit wants to be told about completed calls. Calls are only timed when it does.
+     */
+
+    default boolean isAdaptive()
+    {
+        return false;
+    }
+
+    /**
+     * Record a completed call.
+     *
+     * @param latencyNanos How long the call took.
+     * @param inFlight The number of calls in flight when this one was started, including itself.
+     * @param dropped Whether the call timed out or otherwise indicated overload.
+     */
+
+    default void onSample(long latencyNanos, int inFlight, boolean dropped)
+    {
+    }
+
+    /**
+     * A limit that never changes.
+     *
+     * @param limit The number of concurrent calls allowed.
+     */
+
+    static ConcurrencyLimit fixed(int limit)
+    {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be positive but was " + limit);
+        }
+
+        return () -> limit;
+    }
+}
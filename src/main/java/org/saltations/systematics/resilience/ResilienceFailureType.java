@@ -0,0 +1,32 @@
+package org.saltations.systematics.resilience;
+
+import org.saltations.systematics.core.FailureType;
+
+/**
+ * The types of the failures returned by the resilience decorators when they refuse to run an operation.
+ */
+
+public enum ResilienceFailureType implements FailureType
+{
+    CIRCUIT_OPEN("circuit-open-failure", "Circuit breaker {0} is open"),
+    BULKHEAD_FULL("bulkhead-full-failure", "Bulkhead {0} is at its limit of {1} concurrent calls");
+
+    private final String title;
+    private final String template;
+
+    ResilienceFailureType(String title, String template)
+    {
+        this.title = title;
+        this.template = template;
+    }
+
+    public String title()
+    {
+        return title;
+    }
+
+    public String template()
+    {
+        return template;
+    }
+}
@@ -0,0 +1,204 @@
+package org.saltations.systematics.resilience;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.saltations.systematics.concurrent.VirtualThreadAttempts;
+import org.saltations.systematics.core.AsyncOutcome;
+import org.saltations.systematics.core.Failure;
+import org.saltations.systematics.core.FailureType;
+import org.saltations.systematics.core.MurphysSupplier;
+import org.saltations.systematics.core.Outcome;
+
+/**
+ * Re-runs a {@link MurphysSupplier} until it succeeds or the policy gives up.
+ * <p>
+ * Each attempt runs on a virtual thread, and the waits between attempts are scheduled rather than slept, so no
+ * platform thread is held while backing off. A failure is retried when it matches the retry filters: its
+ * {@link FailureType} is one of the retryable types, or its cause is an instance of one of the retryable cause
+ * classes. With no filters configured every failure is retried. When the policy gives up, the outcome is the last
+ * failure as-is.
+ * </p>
+ * With an attempt timeout, an attempt that runs too long fails with
+ * {@link org.saltations.systematics.core.BasicFailureType#TIMEOUT} and is interrupted; that failure is subject to the
+ * same filters as any other. Policies are immutable and thread safe.
+ */
+
+public final class RetryPolicy
+{
+    private static final Backoff NO_BACKOFF = (retry, previous) -> 0L;
+
+    private final int maxAttempts;
+    private final Backoff backoff;
+    private final Set<FailureType> retryableTypes;
+    private final List<Class<? extends Exception>> retryableCauses;
+    private final Duration attemptTimeout;
+    private final VirtualThreadAttempts attempts;
+
+    private RetryPolicy(int maxAttempts, Backoff backoff, Set<FailureType> retryableTypes, List<Class<? extends Exception>> retryableCauses, Duration attemptTimeout)
+    {
+        this.maxAttempts = maxAttempts;
+        this.backoff = backoff;
+        this.retryableTypes = retryableTypes;
+        this.retryableCauses = retryableCauses;
+        this.attemptTimeout = attemptTimeout;
+        this.attempts = attemptTimeout == null ? VirtualThreadAttempts.unbounded() : VirtualThreadAttempts.unbounded().withDeadline(attemptTimeout);
+    }
+
+    /**
+     * A policy that makes up to the given number of attempts, with no wait between them and retrying every failure.
+     *
+     * @param maxAttempts The maximum number of attempts, including the first one. Must be positive.
+     */
+
+    public static RetryPolicy maxAttempts(int maxAttempts)
+    {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("Max attempts must be positive but was " + maxAttempts);
+        }
+
+        return new RetryPolicy(maxAttempts, NO_BACKOFF, Set.of(), List.of(), null);
+    }
+
+    /**
+     * Returns a copy of this policy that waits according to the given backoff between attempts.
+     *
+     * @param backoff The backoff.
+     */
+
+    public RetryPolicy withBackoff(Backoff backoff)
+    {
+        if (backoff == null) {
+            throw new IllegalArgumentException("Backoff cannot be null");
+        }
+
+        return new RetryPolicy(maxAttempts, backoff, retryableTypes, retryableCauses, attemptTimeout);
+    }
+
+    /**
+     * Returns a copy of this policy that also retries failures of the given types.
+     *
+     * @param types The retryable failure types.
+     */
+
+    public RetryPolicy retryOnTypes(FailureType...types)
+    {
+        var merged = new HashSet<>(retryableTypes);
+        merged.addAll(List.of(types));
+
+        return new RetryPolicy(maxAttempts, backoff, Set.copyOf(merged), retryableCauses, attemptTimeout);
+    }
+
+    /**
+     * Returns a copy of this policy that also retries failures caused by instances of the given exception classes.
+     *
+     * @param causes The retryable cause classes.
+     */
+
+    @SafeVarargs
+    public final RetryPolicy retryOnCauses(Class<? extends Exception>...causes)
+    {
+        var merged = new ArrayList<>(retryableCauses);
+
+        // Element by element; handing the generic array on to another method is what -Xlint:varargs warns about
+        for (var cause : causes) {
+            merged.add(cause);
+        }
+
+        return new RetryPolicy(maxAttempts, backoff, retryableTypes, List.copyOf(merged), attemptTimeout);
+    }
+
+    /**
+     * Returns a copy of this policy that gives up on each attempt after the given time.
+     *
+     * @param timeout The maximum time an attempt may run. Must be positive.
+     */
+
+    public RetryPolicy withAttemptTimeout(Duration timeout)
+    {
+        if (timeout == null || timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("Attempt timeout must be positive but was " + timeout);
+        }
+
+        return new RetryPolicy(maxAttempts, backoff, retryableTypes, retryableCauses, timeout);
+    }
+
+    /**
+     * Attempt the operation under this policy and wait for the final outcome.
+     *
+     * @param supplier The operation.
+     * @param <T> The type of the value being supplied.
+     * @return the first success, or the last failure.
+     */
+
+    public <T> Outcome<T> attempt(MurphysSupplier<T> supplier)
+    {
+        return attemptAsync(supplier).join();
+    }
+
+    /**
+     * Attempt the operation under this policy without blocking.
+     *
+     * @param supplier The operation.
+     * @param <T> The type of the value being supplied.
+     * @return an AsyncOutcome that completes with the first success, or the last failure.
+     */
+
+    public <T> AsyncOutcome<T> attemptAsync(MurphysSupplier<T> supplier)
+    {
+        return AsyncOutcome.fromOutcome(run(supplier, 1, 0L));
+    }
+
+    /**
+     * Checks if the given failure would be retried by this policy, attempts permitting.
+     *
+     * @param failure The failure.
+     */
+
+    public boolean isRetryable(Failure<?> failure)
+    {
+        if (retryableTypes.isEmpty() && retryableCauses.isEmpty()) {
+            return true;
+        }
+
+        if (retryableTypes.contains(failure.type())) {
+            return true;
+        }
+
+        var cause = failure.cause();
+
+        for (var retryable : retryableCauses) {
+            if (retryable.isInstance(cause)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private <T> CompletableFuture<Outcome<T>> run(MurphysSupplier<T> supplier, int attempt, long previousDelayNanos)
+    {
+        return attempts.attempt(supplier).toCompletableFuture().thenCompose(outcome -> {
+            if (!(outcome instanceof Failure<T> failure) || attempt >= maxAttempts || !isRetryable(failure)) {
+                return CompletableFuture.completedFuture(outcome);
+            }
+
+            var delayNanos = backoff.delayNanos(attempt, previousDelayNanos);
+
+            if (delayNanos <= 0) {
+                return run(supplier, attempt + 1, 0L);
+            }
+
+            // The delayed executor only holds a timer entry during the wait, the next attempt starts its own virtual thread
+            var wait = CompletableFuture.delayedExecutor(delayNanos, TimeUnit.NANOSECONDS, Runnable::run);
+
+            return CompletableFuture.supplyAsync(() -> attempt + 1, wait)
+                                    .thenCompose(next -> run(supplier, next, delayNanos));
+        });
+    }
+}
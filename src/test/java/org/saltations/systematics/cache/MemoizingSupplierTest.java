@@ -0,0 +1,79 @@
+package org.saltations.systematics.cache;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+import org.saltations.systematics.test.fixture.ReplaceBDDCamelCase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayNameGeneration(ReplaceBDDCamelCase.class)
+class MemoizingSupplierTest
+{
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Test
+    void givenNoTtl_whenSuppliedRepeatedly_thenAttemptsOnce()
+    {
+        var memoized = MemoizingSupplier.of(calls::incrementAndGet);
+
+        var first = memoized.supply();
+
+        assertSame(first, memoized.supply());
+        assertEquals(1, first.get());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void givenSuccessTtl_whenExpired_thenAttemptsAgain()
+    {
+        var memoized = new MemoizingSupplier<>(calls::incrementAndGet, Duration.ofSeconds(10), Duration.ofSeconds(1), clock::get);
+
+        var first = memoized.supply();
+        clock.addAndGet(Duration.ofSeconds(9).toNanos());
+        assertSame(first, memoized.supply());
+
+        clock.addAndGet(Duration.ofSeconds(2).toNanos());
+        assertEquals(2, memoized.supply().get());
+    }
+
+    @Test
+    void givenFailureTtl_whenFailureExpires_thenAttemptsAgainSoonerThanSuccess()
+    {
+        var memoized = new MemoizingSupplier<Integer>(() -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException("Down");
+            }
+            return calls.get();
+        }, Duration.ofSeconds(10), Duration.ofSeconds(1), clock::get);
+
+        var failure = memoized.supply();
+        assertTrue(failure.isFailure());
+        assertSame(failure, memoized.supply());
+
+        clock.addAndGet(Duration.ofSeconds(2).toNanos());
+        var success = memoized.supply();
+
+        assertTrue(success.isSuccess());
+        assertNotSame(failure, success);
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void givenInvalidated_whenSupplied_thenAttemptsAgain()
+    {
+        var memoized = MemoizingSupplier.of(calls::incrementAndGet);
+
+        memoized.supply();
+        memoized.invalidate();
+
+        assertEquals(2, memoized.supply().get());
+    }
+}
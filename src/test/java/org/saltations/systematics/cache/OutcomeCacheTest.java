@@ -0,0 +1,202 @@
+package org.saltations.systematics.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+import org.saltations.systematics.core.BasicFailureType;
+import org.saltations.systematics.core.Outcome;
+import org.saltations.systematics.core.Outcomes;
+import org.saltations.systematics.test.fixture.ReplaceBDDCamelCase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayNameGeneration(ReplaceBDDCamelCase.class)
+class OutcomeCacheTest
+{
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void givenCachedSuccess_whenLookedUpAgain_thenDoesNotLoad()
+    {
+        var cache = new OutcomeCache<String, Integer>(this::load, OutcomeCacheConfig.defaults());
+
+        var first = cache.get("sku-1");
+
+        assertSame(first, cache.get("sku-1"));
+        assertEquals(1, loads.get());
+        assertEquals(new CacheStats(1, 0, 1, 0), cache.stats());
+        assertEquals(0.5, cache.stats().hitRate());
+    }
+
+    @Test
+    void givenFailure_whenLookedUpAgain_thenServesNegativeEntryUntilItExpires()
+    {
+        var config = OutcomeCacheConfig.defaults().withFailureTtl(Duration.ofSeconds(5));
+        var cache = new OutcomeCache<String, Integer>(this::load, config, clock::get);
+
+        var failure = cache.get("unknown");
+
+        assertTrue(failure.isFailure());
+        assertSame(failure, cache.get("unknown"));
+        assertEquals(1, cache.stats().negativeHits());
+
+        clock.addAndGet(Duration.ofSeconds(6).toNanos());
+        cache.get("unknown");
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void givenZeroTtlForFailureType_whenLoaded_thenIsNotCached()
+    {
+        var config = OutcomeCacheConfig.defaults().withFailureTtl(BasicFailureType.TIMEOUT, Duration.ZERO);
+        var cache = new OutcomeCache<String, Integer>(key -> {
+            loads.incrementAndGet();
+            return Outcomes.typedFailure(BasicFailureType.TIMEOUT, 100);
+        }, config);
+
+        cache.get("slow");
+        cache.get("slow");
+
+        assertEquals(2, loads.get());
+        assertFalse(cache.getIfPresent("slow").isPresent());
+    }
+
+    @Test
+    void givenSuccessTtl_whenExpired_thenReloads()
+    {
+        var config = OutcomeCacheConfig.defaults().withSuccessTtl(Duration.ofMinutes(1));
+        var cache = new OutcomeCache<String, Integer>(this::load, config, clock::get);
+
+        cache.get("sku-1");
+        clock.addAndGet(Duration.ofMinutes(2).toNanos());
+
+        assertEquals(2, cache.get("sku-1").get());
+    }
+
+    @Test
+    void givenMoreKeysThanMaximumSize_whenLoaded_thenEvictsToStayWithinBound()
+    {
+        var cache = new OutcomeCache<String, Integer>(this::load, OutcomeCacheConfig.defaults().withMaximumSize(10));
+
+        for (int i = 0; i < 100; i++) {
+            cache.get("sku-" + i);
+        }
+
+        assertTrue(cache.size() <= 10);
+        assertEquals(100 - cache.size(), cache.stats().evictions());
+    }
+
+    @Test
+    void givenFrequentlyReadKey_whenScanOfOneOffKeysFollows_thenFrequentKeySurvives()
+    {
+        var cache = new OutcomeCache<String, Integer>(this::load, OutcomeCacheConfig.defaults().withMaximumSize(125));
+
+        for (int i = 0; i < 20; i++) {
+            cache.get("hot");
+        }
+        cache.get("warm");
+        cache.get("hot");
+
+        for (int i = 0; i < 1_000; i++) {
+            cache.get("scan-" + i);
+        }
+
+        assertTrue(cache.getIfPresent("hot").isPresent());
+    }
+
+    @Test
+    void givenBurstOfFailures_whenLoaded_thenSuccessesAreNotEvicted()
+    {
+        var cache = new OutcomeCache<String, Integer>(this::load, OutcomeCacheConfig.defaults().withMaximumSize(10));
+
+        cache.get("sku-1");
+
+        for (int i = 0; i < 100; i++) {
+            cache.get("unknown-" + i);
+        }
+
+        assertTrue(cache.getIfPresent("sku-1").isPresent());
+    }
+
+    @Test
+    void givenInvalidatedKey_whenLookedUp_thenReloads()
+    {
+        var cache = new OutcomeCache<String, Integer>(this::load, OutcomeCacheConfig.defaults());
+
+        cache.get("sku-1");
+        cache.invalidate("sku-1");
+
+        assertEquals(2, cache.get("sku-1").get());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void givenNullTtlForFailureType_whenTimePasses_thenFailureNeverExpires()
+    {
+        var config = OutcomeCacheConfig.defaults().withFailureTtl(BasicFailureType.GENERIC, null);
+        var cache = new OutcomeCache<String, Integer>(this::load, config, clock::get);
+
+        var failure = cache.get("unknown");
+        clock.addAndGet(Duration.ofDays(365).toNanos());
+
+        assertSame(failure, cache.get("unknown"));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void givenConcurrentGetsAndInvalidations_whenQuiet_thenStaysWithinBoundAndInvalidatesAll() throws InterruptedException
+    {
+        var cache = new OutcomeCache<String, Integer>(this::load, OutcomeCacheConfig.defaults().withMaximumSize(10));
+        var threads = new ArrayList<Thread>();
+
+        for (int t = 0; t < 8; t++) {
+            var seed = t;
+            threads.add(Thread.ofPlatform().start(() -> {
+                var random = new Random(seed);
+
+                for (int i = 0; i < 50_000; i++) {
+                    var key = (random.nextInt(10) == 0 ? "unknown-" : "sku-") + random.nextInt(12);
+
+                    switch (random.nextInt(20)) {
+                        case 0 -> cache.invalidate(key);
+                        case 1 -> cache.invalidateAll();
+                        default -> cache.get(key);
+                    }
+                }
+            }));
+        }
+
+        for (var thread : threads) {
+            thread.join(TimeUnit.SECONDS.toMillis(30));
+            assertFalse(thread.isAlive(), "Worker did not finish");
+        }
+
+        for (int i = 0; i < 100; i++) {
+            cache.get("sku-" + i);
+        }
+
+        assertTrue(cache.isConsistent());
+        assertTrue(cache.size() <= 10, "Size was " + cache.size());
+
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+    }
+
+    private Outcome<Integer> load(String key)
+    {
+        var count = loads.incrementAndGet();
+
+        return key.startsWith("unknown") ? Outcomes.genericFailure("unknown-sku") : Outcomes.success(count);
+    }
+}
@@ -0,0 +1,70 @@
+package org.saltations.systematics.cache;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+import org.saltations.systematics.core.Outcome;
+import org.saltations.systematics.test.fixture.ReplaceBDDCamelCase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayNameGeneration(ReplaceBDDCamelCase.class)
+class SingleFlightTest
+{
+    @Test
+    void givenConcurrentCallersForSameKey_whenAttempted_thenSupplierRunsOnceAndAllShareOutcome() throws InterruptedException
+    {
+        var flight = new SingleFlight<String, Integer>();
+        var calls = new AtomicInteger();
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var outcomes = new Outcome<?>[8];
+        var threads = new ArrayList<Thread>();
+
+        threads.add(Thread.ofVirtual().start(() -> outcomes[0] = flight.attempt("token", () -> {
+            started.countDown();
+            release.await();
+            return calls.incrementAndGet();
+        })));
+
+        started.await();
+
+        for (int i = 1; i < outcomes.length; i++) {
+            var index = i;
+            threads.add(Thread.ofVirtual().start(() -> outcomes[index] = flight.attempt("token", calls::incrementAndGet)));
+        }
+
+        while (threads.stream().skip(1).anyMatch(t -> t.getState() != Thread.State.WAITING && t.isAlive())) {
+            Thread.onSpinWait();
+        }
+
+        release.countDown();
+
+        for (var thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(1, calls.get());
+        for (var outcome : outcomes) {
+            assertSame(outcomes[0], outcome);
+        }
+        assertEquals(0, flight.inFlight());
+    }
+
+    @Test
+    void givenFailingSupplier_whenAttempted_thenReturnsFailureAndForgetsKey()
+    {
+        var flight = new SingleFlight<String, Integer>();
+
+        var outcome = flight.attempt("token", () -> { throw new IllegalStateException("Down"); });
+
+        assertTrue(outcome.isFailure());
+        assertEquals(0, flight.inFlight());
+        assertEquals(1, flight.attempt("token", () -> 1).get());
+    }
+}
@@ -0,0 +1,152 @@
+package org.saltations.systematics.codec;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+import org.saltations.systematics.core.BasicFailureType;
+import org.saltations.systematics.core.FailureType;
+import org.saltations.systematics.core.Outcome;
+import org.saltations.systematics.core.Outcomes;
+import org.saltations.systematics.test.fixture.ReplaceBDDCamelCase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayNameGeneration(ReplaceBDDCamelCase.class)
+class OutcomeCodecTest
+{
+    private final OutcomeCodec<String> codec = new OutcomeCodec<>(FailureTypeTable.basic(), ValueCodec.STRING);
+
+    @Test
+    void givenSuccess_whenRoundTrippedThroughHeapAndDirectBuffers_thenValueIsEqual()
+    {
+        Outcome<String> success = Outcomes.success("héllo wörld ✓ 𝄞");
+
+        assertEquals(success, roundTrip(success, ByteBuffer.allocate(128)));
+        assertEquals(success, roundTrip(success, ByteBuffer.allocateDirect(128)));
+    }
+
+    @Test
+    void givenTypedFailureWithCause_whenRoundTripped_thenFieldsAndCauseSummarySurvive()
+    {
+        var failure = Outcomes.<String>causedFailure(new IOException("Connection reset"), "fetch-failed");
+
+        for (var buffer : new ByteBuffer[] { ByteBuffer.allocate(256), ByteBuffer.allocateDirect(256) }) {
+            var decoded = roundTrip(failure, buffer).asFailure();
+
+            assertEquals(failure.type(), decoded.type());
+            assertEquals("fetch-failed", decoded.title());
+            assertEquals(failure.detail(), decoded.detail());
+
+            var cause = assertInstanceOf(RemoteCauseException.class, decoded.cause());
+            assertEquals("java.io.IOException", cause.causeClassName());
+            assertEquals("Connection reset", cause.getMessage());
+            assertEquals(0, cause.getStackTrace().length);
+        }
+    }
+
+    @Test
+    void givenTemplatedFailure_whenEncoded_thenDetailIsRendered()
+    {
+        var failure = Outcomes.<String>typedFailure(BasicFailureType.TIMEOUT, 250);
+
+        var decoded = roundTrip(failure, ByteBuffer.allocate(128)).asFailure();
+
+        assertEquals(BasicFailureType.TIMEOUT, decoded.type());
+        assertEquals("Did not complete within 250 ms", decoded.detail());
+        assertNull(decoded.cause());
+    }
+
+    @Test
+    void givenTypeMissingFromTable_whenRoundTripped_thenDecodesAsWireFailureType()
+    {
+        var failure = Outcomes.<String>typedFailure(ExternalFailureType.GONE, "sku-1");
+
+        var decoded = roundTrip(failure, ByteBuffer.allocate(128)).asFailure();
+
+        assertEquals(new WireFailureType("gone", "{0} is gone"), decoded.type());
+        assertEquals("sku-1 is gone", decoded.detail());
+    }
+
+    @Test
+    void givenTableWithEnumAdded_whenEncoded_thenUsesIdAndDecodesToSameConstant()
+    {
+        var table = FailureTypeTable.basic().with(ExternalFailureType.class);
+        var withTable = new OutcomeCodec<>(table, ValueCodec.STRING);
+        var buffer = ByteBuffer.allocate(128);
+
+        withTable.encode(Outcomes.typedFailure(ExternalFailureType.GONE, "sku-1"), buffer);
+        buffer.flip();
+
+        assertEquals(ExternalFailureType.GONE, withTable.decode(buffer).asFailure().type());
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    void givenVarInts_whenRoundTripped_thenSizesMatch()
+    {
+        var buffer = ByteBuffer.allocate(64);
+
+        for (var value : new int[] { 0, 1, 127, 128, 16_383, 16_384, Integer.MAX_VALUE }) {
+            buffer.clear();
+            Wire.putVarInt(buffer, value);
+
+            assertEquals(Wire.varIntSize(value), buffer.position());
+
+            buffer.flip();
+            assertEquals(value, Wire.getVarInt(buffer));
+        }
+
+        buffer.clear();
+        Wire.putString(buffer, "ä𝄞");
+        assertEquals(Wire.stringSize("ä𝄞"), buffer.position());
+    }
+
+    @Test
+    void givenUnknownTag_whenDecoded_thenThrows()
+    {
+        assertThrows(IllegalArgumentException.class, () -> codec.decode(ByteBuffer.wrap(new byte[] { 9 })));
+        assertNull(Wire.getString(ByteBuffer.wrap(new byte[] { 0 })));
+    }
+
+    private Outcome<String> roundTrip(Outcome<String> outcome, ByteBuffer buffer)
+    {
+        codec.encode(outcome, buffer);
+        buffer.flip();
+
+        var decoded = codec.decode(buffer);
+
+        assertFalse(buffer.hasRemaining());
+
+        return decoded;
+    }
+
+    enum ExternalFailureType implements FailureType
+    {
+        GONE("gone", "{0} is gone");
+
+        private final String title;
+        private final String template;
+
+        ExternalFailureType(String title, String template)
+        {
+            this.title = title;
+            this.template = template;
+        }
+
+        public String title()
+        {
+            return title;
+        }
+
+        public String template()
+        {
+            return template;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package org.saltations.systematics.concurrent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+import org.saltations.systematics.core.Outcome;
+import org.saltations.systematics.core.Outcomes;
+import org.saltations.systematics.test.fixture.ReplaceBDDCamelCase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayNameGeneration(ReplaceBDDCamelCase.class)
+class ParallelTraverseTest
+{
+    @Test
+    void givenParseableItems_whenTraversed_thenValuesAreInItemOrder()
+    {
+        var items = IntStream.range(0, 10_000).mapToObj(Integer::toString).toList();
+
+        var outcome = ParallelTraverse.traverse(items, text -> Outcome.attempt(() -> Integer.parseInt(text)));
+
+        assertTrue(outcome.isSuccess());
+        assertEquals(IntStream.range(0, 10_000).boxed().toList(), outcome.get());
+    }
+
+    @Test
+    void givenTraversedValues_whenAddedTo_thenListIsMutableLikeSequentialTraverse()
+    {
+        var values = ParallelTraverse.traverse(List.of("1", "2"), text -> Outcome.attempt(() -> Integer.parseInt(text))).get();
+
+        values.add(3);
+
+        assertEquals(List.of(1, 2, 3), values);
+    }
+
+    @Test
+    void givenFailingItem_whenTraversed_thenReturnsThatFailureInstance()
+    {
+        Outcome<Integer> failure = Outcomes.genericFailure("Rejected");
+        var items = IntStream.range(0, 1_000).boxed().toList();
+
+        var outcome = ParallelTraverse.traverse(items, item -> item == 500 ? failure : Outcomes.success(item));
+
+        assertSame(failure, outcome);
+    }
+
+    @Test
+    void givenEarlyFailure_whenTraversed_thenRemainingWorkIsSkipped()
+    {
+        var applied = new AtomicInteger();
+        var items = IntStream.range(0, 100_000).boxed().toList();
+        var pool = new ForkJoinPool(4);
+
+        try {
+            var outcome = ParallelTraverse.traverse(items, item -> {
+                applied.incrementAndGet();
+                return item == 10 ? Outcomes.genericFailure("Rejected") : Outcomes.success(item);
+            }, pool, 1_000);
+
+            assertTrue(outcome.isFailure());
+            assertTrue(applied.get() < items.size() / 2, "Should have skipped most items but applied " + applied.get());
+        }
+        finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void givenThrowingFunction_whenTraversed_thenExceptionBecomesFailure()
+    {
+        var items = new ArrayList<>(List.of("1", "2", "x"));
+
+        var outcome = ParallelTraverse.traverse(items, text -> Outcomes.success(Integer.parseInt(text)));
+
+        assertTrue(outcome.isFailure());
+        assertInstanceOf(NumberFormatException.class, outcome.asFailure().cause());
+    }
+}
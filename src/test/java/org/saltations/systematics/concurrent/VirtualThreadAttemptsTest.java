@@ -0,0 +1,202 @@
+package org.saltations.systematics.concurrent;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+import org.saltations.systematics.core.BasicFailureType;
+import org.saltations.systematics.core.MurphysSupplier;
+import org.saltations.systematics.core.Outcome;
+import org.saltations.systematics.core.OutcomeObserver;
+import org.saltations.systematics.core.OutcomeObservers;
+import org.saltations.systematics.test.fixture.ReplaceBDDCamelCase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayNameGeneration(ReplaceBDDCamelCase.class)
+class VirtualThreadAttemptsTest
+{
+    @Test
+    void givenManySuppliers_whenAttemptAll_thenOutcomesAreInInputOrder()
+    {
+        var suppliers = new ArrayList<MurphysSupplier<Integer>>();
+
+        for (int i = 0; i < 100; i++) {
+            var value = i;
+            suppliers.add(() -> {
+                Thread.sleep(100 - value);
+                return value;
+            });
+        }
+
+        var outcomes = VirtualThreadAttempts.unbounded().attemptAll(suppliers);
+
+        assertEquals(100, outcomes.size());
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, outcomes.get(i).get());
+        }
+    }
+
+    @Test
+    void givenFailingSupplier_whenAttemptAll_thenOnlyThatOutcomeFails()
+    {
+        List<MurphysSupplier<Integer>> suppliers = List.of(() -> 1, () -> Integer.parseInt("abc"), () -> 3);
+
+        var outcomes = VirtualThreadAttempts.unbounded().attemptAll(suppliers);
+
+        assertTrue(outcomes.get(0).isSuccess());
+        assertTrue(outcomes.get(1).isFailure());
+        assertTrue(outcomes.get(2).isSuccess());
+    }
+
+    @Test
+    void givenConcurrencyLimit_whenAttemptAll_thenNeverExceedsLimit()
+    {
+        var inFlight = new AtomicInteger();
+        var maxInFlight = new AtomicInteger();
+        var suppliers = new ArrayList<MurphysSupplier<Integer>>();
+
+        for (int i = 0; i < 50; i++) {
+            suppliers.add(() -> {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                Thread.sleep(5);
+                inFlight.decrementAndGet();
+                return 1;
+            });
+        }
+
+        var outcomes = VirtualThreadAttempts.unbounded().withMaxConcurrency(4).attemptAll(suppliers);
+
+        assertTrue(outcomes.stream().allMatch(outcome -> outcome.isSuccess()));
+        assertTrue(maxInFlight.get() <= 4, "Should not exceed the limit but was " + maxInFlight.get());
+    }
+
+    @Test
+    void givenDeadline_whenSupplierTooSlow_thenTimesOutAndIsInterrupted() throws InterruptedException
+    {
+        var interrupted = new CountDownLatch(1);
+        List<MurphysSupplier<Integer>> suppliers = List.of(() -> 1, () -> {
+            try {
+                Thread.sleep(10_000);
+            }
+            catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+            return 2;
+        });
+
+        var outcomes = VirtualThreadAttempts.unbounded().withDeadline(Duration.ofMillis(50)).attemptAll(suppliers);
+
+        assertTrue(outcomes.get(0).isSuccess());
+        assertEquals(BasicFailureType.TIMEOUT, outcomes.get(1).asFailure().type());
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS), "Slow supplier should have been interrupted");
+    }
+
+    @Test
+    void givenSupplierIgnoringInterrupt_whenDeadlinePasses_thenPermitIsHeldUntilItReturns() throws Exception
+    {
+        var stuck = new CountDownLatch(1);
+        var secondRan = new AtomicBoolean();
+        var attempts = VirtualThreadAttempts.unbounded().withMaxConcurrency(1).withDeadline(Duration.ofMillis(50));
+
+        try {
+            var first = attempts.attempt(() -> {
+                // Keeps waiting through interrupts, as a supplier blocked in uninterruptible I/O would
+                while (stuck.getCount() > 0) {
+                    try {
+                        stuck.await();
+                    }
+                    catch (InterruptedException e) {
+                        // Ignored
+                    }
+                }
+                return 1;
+            });
+
+            assertEquals(BasicFailureType.TIMEOUT, first.join().asFailure().type());
+
+            var second = attempts.attempt(() -> {
+                secondRan.set(true);
+                return 2;
+            }).toCompletableFuture();
+
+            Thread.sleep(100);
+            assertFalse(secondRan.get(), "Should wait for the permit of the hung supplier");
+
+            stuck.countDown();
+            assertEquals(2, second.get(5, TimeUnit.SECONDS).get());
+        }
+        finally {
+            stuck.countDown();
+        }
+    }
+
+    @Test
+    void givenObserver_whenAttemptsTimeOut_thenEachTimeoutIsObservedOnce() throws InterruptedException
+    {
+        var timeouts = new CopyOnWriteArrayList<Outcome<?>>();
+        var observed = new CountDownLatch(5);
+        OutcomeObserver observer = new OutcomeObserver()
+        {
+            @Override
+            public void created(Outcome<?> outcome)
+            {
+                if (outcome.isFailure() && outcome.asFailure().type() == BasicFailureType.TIMEOUT) {
+                    timeouts.add(outcome);
+                    observed.countDown();
+                }
+            }
+        };
+        var suppliers = new ArrayList<MurphysSupplier<Integer>>();
+
+        for (int i = 0; i < 5; i++) {
+            suppliers.add(() -> {
+                Thread.sleep(10_000);
+                return 1;
+            });
+        }
+
+        var attempts = VirtualThreadAttempts.unbounded().withDeadline(Duration.ofMillis(20));
+
+        OutcomeObservers.register(observer);
+
+        try {
+            var outcomes = attempts.attemptAll(suppliers);
+            var distinct = new IdentityHashMap<Outcome<?>, Boolean>();
+
+            for (var outcome : outcomes) {
+                assertEquals(BasicFailureType.TIMEOUT, outcome.asFailure().type());
+                distinct.put(outcome, true);
+            }
+
+            // The timeout completes the attempt before it is reported, so the last reports may still be on their way
+            assertEquals(5, distinct.size());
+            assertTrue(observed.await(5, TimeUnit.SECONDS), "Every timeout should be observed");
+            assertEquals(5, timeouts.size());
+            assertTrue(distinct.keySet().containsAll(timeouts));
+        }
+        finally {
+            OutcomeObservers.unregister(observer);
+        }
+    }
+
+    @Test
+    void givenInvalidLimits_whenConfigured_thenThrows()
+    {
+        assertThrows(IllegalArgumentException.class, () -> VirtualThreadAttempts.unbounded().withMaxConcurrency(0));
+        assertThrows(IllegalArgumentException.class, () -> VirtualThreadAttempts.unbounded().withDeadline(Duration.ZERO));
+    }
+}
@@ -0,0 +1,116 @@
+package org.saltations.systematics.core;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+import org.saltations.systematics.test.fixture.ReplaceBDDCamelCase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayNameGeneration(ReplaceBDDCamelCase.class)
+class AsyncOutcomeTest
+{
+    private static final Executor INLINE = Runnable::run;
+
+    @Test
+    void givenSuccessfulAttempt_whenChained_thenTransformsValue()
+    {
+        var outcome = AsyncOutcome.attempt(() -> Integer.parseInt("123"), INLINE)
+                                  .map(value -> value * 2)
+                                  .flatMap(value -> Outcomes.success(value + 1))
+                                  .flatMapAsync(value -> AsyncOutcome.attempt(() -> "#" + value, INLINE))
+                                  .join();
+
+        assertTrue(outcome.isSuccess());
+        assertEquals("#247", outcome.get());
+    }
+
+    @Test
+    void givenFailedAttempt_whenChained_thenKeepsTheSameFailure()
+    {
+        var failed = AsyncOutcome.attempt(() -> Integer.parseInt("abc"), INLINE);
+        var failure = failed.join();
+
+        var outcome = failed.map(value -> value * 2).flatMapAsync(value -> AsyncOutcome.completed(Outcomes.success(value))).join();
+
+        assertTrue(outcome.isFailure());
+        assertSame(failure, outcome, "Should be the same failure");
+    }
+
+    @Test
+    void givenThrowingFunction_whenMapped_thenCompletesWithFailure()
+    {
+        var outcome = AsyncOutcome.completed(Outcomes.success(1))
+                                  .map(value -> { throw new IllegalArgumentException("Kaboom!"); })
+                                  .join();
+
+        assertTrue(outcome.isFailure());
+        assertInstanceOf(IllegalArgumentException.class, outcome.asFailure().cause());
+    }
+
+    @Test
+    void givenExceptionallyCompletedStage_whenAdapted_thenFutureCompletesNormallyWithFailure()
+    {
+        var stage = CompletableFuture.<String>failedFuture(new IOException("Kaboom!"));
+        var future = AsyncOutcome.fromValue(stage).map(String::length).toCompletableFuture();
+
+        assertFalse(future.isCompletedExceptionally(), "Should never complete exceptionally");
+        assertInstanceOf(IOException.class, future.join().asFailure().cause());
+    }
+
+    @Test
+    void givenPendingStage_whenComposed_thenDoesNotBlockUntilCompleted()
+    {
+        var stage = new CompletableFuture<Integer>();
+        var composed = AsyncOutcome.fromValue(stage).map(value -> value + 1);
+
+        assertFalse(composed.isDone(), "Should still be pending");
+
+        stage.complete(41);
+
+        assertTrue(composed.isDone(), "Should be complete");
+        assertEquals(42, composed.join().get());
+    }
+
+    @Test
+    void givenFailure_whenOrElse_thenAlternativeIsUsed()
+    {
+        var outcome = AsyncOutcome.<Integer>completed(Outcomes.genericFailure("Nope")).orElse(() -> Outcomes.success(7)).join();
+
+        assertEquals(7, outcome.get());
+    }
+
+    @Test
+    void givenOutcome_whenOnSuccessAndOnFailure_thenOnlyMatchingConsumerRuns()
+    {
+        var successCalled = new AtomicBoolean();
+        var failureCalled = new AtomicBoolean();
+
+        AsyncOutcome.completed(Outcomes.success(1))
+                    .onSuccess(value -> successCalled.set(true))
+                    .onFailure(failure -> failureCalled.set(true))
+                    .join();
+
+        assertTrue(successCalled.get(), "Success consumer should have run");
+        assertFalse(failureCalled.get(), "Failure consumer should not have run");
+    }
+
+    @Test
+    void givenRejectingExecutor_whenAttempted_thenCompletesWithFailure()
+    {
+        Executor rejecting = task -> { throw new RejectedExecutionException("Full"); };
+
+        var outcome = AsyncOutcome.attempt(() -> 1, rejecting).join();
+
+        assertTrue(outcome.isFailure());
+    }
+}
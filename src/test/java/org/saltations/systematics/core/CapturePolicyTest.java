@@ -0,0 +1,109 @@
+package org.saltations.systematics.core;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+import org.saltations.systematics.test.fixture.ReplaceBDDCamelCase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayNameGeneration(ReplaceBDDCamelCase.class)
+class CapturePolicyTest
+{
+    @AfterEach
+    void restoreDefaultPolicy()
+    {
+        CapturePolicy.setDefaultPolicy(CapturePolicy.FULL);
+    }
+
+    @Test
+    void givenNoConfiguration_whenDefaultPolicy_thenCapturesEverything()
+    {
+        assertSame(CapturePolicy.FULL, CapturePolicy.defaultPolicy());
+        assertTrue(CapturePolicy.FULL.shouldCapture());
+    }
+
+    @Test
+    void givenNonePolicy_whenLightweightExceptionCreated_thenHasNoStackTrace()
+    {
+        var exception = new LightweightException("Expected", null, CapturePolicy.NONE);
+
+        assertEquals(0, exception.getStackTrace().length, "Should not have a stack trace");
+    }
+
+    @Test
+    void givenFullPolicy_whenLightweightExceptionCreated_thenHasStackTrace()
+    {
+        var exception = new LightweightException("Expected", null, CapturePolicy.FULL);
+
+        assertTrue(exception.getStackTrace().length > 0, "Should have a stack trace");
+    }
+
+    @Test
+    void givenAnyPolicy_whenCheckedFailureAttempted_thenCauseIsTheCheckedException()
+    {
+        var checked = new IOException("Kaboom!");
+
+        for (var policy : List.of(CapturePolicy.FULL, CapturePolicy.NONE, CapturePolicy.sampled(2))) {
+            for (int i = 0; i < 20; i++) {
+                var outcome = Outcome.attempt(() -> { throw checked; }, policy);
+
+                assertSame(checked, outcome.asFailure().cause(), "Should be the checked exception itself under " + policy);
+            }
+        }
+    }
+
+    @Test
+    void givenNonePolicy_whenErrorAttempted_thenWrappedWithoutStackTrace()
+    {
+        var error = new AssertionError("Kaboom!");
+        var outcome = Outcome.attempt(() -> { throw error; }, CapturePolicy.NONE);
+
+        var cause = outcome.asFailure().cause();
+        assertSame(error, cause.getCause(), "Should wrap the error");
+        assertEquals(0, cause.getStackTrace().length, "Wrapper should not have a stack trace");
+    }
+
+    @Test
+    void givenNoneDefaultPolicy_whenMurphysSupplierThrowsChecked_thenWrapperHasNoStackTrace()
+    {
+        CapturePolicy.setDefaultPolicy(CapturePolicy.NONE);
+        MurphysSupplier<Integer> supplier = () -> { throw new IOException("Kaboom!"); };
+
+        var thrown = assertThrows(LightweightException.class, supplier::get);
+        assertEquals(0, thrown.getStackTrace().length, "Wrapper should not have a stack trace");
+    }
+
+    @Test
+    void givenSampledPolicy_whenManyChecked_thenCapturesSome()
+    {
+        var policy = CapturePolicy.sampled(4);
+        var captured = 0;
+
+        for (int i = 0; i < 10_000; i++) {
+            if (policy.shouldCapture()) {
+                captured++;
+            }
+        }
+
+        assertTrue(captured > 1_500 && captured < 3_500, "Should capture roughly a quarter but was " + captured);
+    }
+
+    @Test
+    void givenSamplingIntervalOfOne_whenSampled_thenIsFull()
+    {
+        assertSame(CapturePolicy.FULL, CapturePolicy.sampled(1));
+    }
+
+    @Test
+    void givenNonPositiveInterval_whenSampled_thenThrows()
+    {
+        assertThrows(IllegalArgumentException.class, () -> CapturePolicy.sampled(0));
+    }
+}
@@ -0,0 +1,149 @@
+package org.saltations.systematics.core;
+
+import java.text.MessageFormat;
+import java.util.Date;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+import org.saltations.systematics.test.fixture.ReplaceBDDCamelCase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayNameGeneration(ReplaceBDDCamelCase.class)
+class CompiledTemplateTest
+{
+    @Test
+    void givenIndexedTemplates_whenRendered_thenMatchesMessageFormat()
+    {
+        assertMatchesMessageFormat("No placeholders");
+        assertMatchesMessageFormat("Value {0}", "x");
+        assertMatchesMessageFormat("{1} before {0}", "a", "b");
+        assertMatchesMessageFormat("Repeated {0} and {0}", "x");
+        assertMatchesMessageFormat("Number {0}", 1234567);
+        assertMatchesMessageFormat("Decimal {0}", 1234.5678);
+        assertMatchesMessageFormat("Null {0}", (Object) null);
+        assertMatchesMessageFormat("Missing {0} and {1}", "x");
+        assertMatchesMessageFormat("Date {0}", new Date(0));
+        assertMatchesMessageFormat("Can''t find {0}", "x");
+        assertMatchesMessageFormat("Quoted '{0}' and {0}", "x");
+        assertMatchesMessageFormat("Stray } brace {0}", "x");
+        assertMatchesMessageFormat("Typed {0,number,#.##}", 3.14159);
+        assertMatchesMessageFormat("Choice {0,choice,0#none|1#one|1<many}", 2);
+    }
+
+    @Test
+    void givenPositionalTemplate_whenRendered_thenConsumesArgumentsInOrder()
+    {
+        var template = CompiledTemplate.compile("{} of {} records");
+
+        assertEquals("3 of 10 records", template.render(3, 10));
+        assertEquals(2, template.parameterCount());
+    }
+
+    @Test
+    void givenPositionalTemplate_whenMissingArguments_thenLeavesPlaceholder()
+    {
+        assertEquals("3 of {} records", CompiledTemplate.compile("{} of {} records").render(3));
+    }
+
+    @Test
+    void givenIndexedTemplate_whenCountingParameters_thenIsHighestIndexPlusOne()
+    {
+        assertEquals(3, CompiledTemplate.compile("{2} {0}").parameterCount());
+        assertEquals(0, CompiledTemplate.compile("None").parameterCount());
+    }
+
+    @Test
+    void givenInvalidTemplates_whenCompiled_thenThrows()
+    {
+        assertThrows(IllegalArgumentException.class, () -> CompiledTemplate.compile("Unbalanced {0"));
+        assertThrows(IllegalArgumentException.class, () -> CompiledTemplate.compile("Not a number {x}"));
+        assertThrows(IllegalArgumentException.class, () -> CompiledTemplate.compile("x {0} y {} z"));
+        assertThrows(IllegalArgumentException.class, () -> CompiledTemplate.compile("x {} y {0} z"));
+        assertThrows(IllegalArgumentException.class, () -> new RecordFailureType("Unbalanced {0").templateParameterCount());
+    }
+
+    @Test
+    void givenRecordFailureType_whenCompiledTemplateRequested_thenCachedByTemplate()
+    {
+        var type = new RecordFailureType("Value {0} of {1}");
+
+        assertSame(type.compiledTemplate(), new RecordFailureType("Value {0} of {1}").compiledTemplate());
+        assertEquals(2, type.templateParameterCount());
+        assertEquals("Value a of b", Outcomes.typedFailure(type, "a", "b").detail());
+    }
+
+    @Test
+    void givenEnumFailureType_whenCompiledTemplateRequested_thenCachedPerConstant()
+    {
+        assertSame(CompiledTemplate.of(TemplateFailureType.POSITIONAL), TemplateFailureType.POSITIONAL.compiledTemplate());
+        assertEquals(2, TemplateFailureType.POSITIONAL.templateParameterCount());
+        assertEquals(1, TemplateFailureType.INDEXED.templateParameterCount());
+    }
+
+    @Test
+    void givenEnumFailureType_whenTypedFailure_thenRendersTemplate()
+    {
+        var failure = Outcomes.typedFailure(TemplateFailureType.POSITIONAL, "a", "b");
+
+        assertEquals("a then b", failure.detail());
+    }
+
+    @Test
+    void givenArgumentRenderingAnotherTemplate_whenRendered_thenNestedRenderingIsIntact()
+    {
+        var inner = new Object()
+        {
+            @Override
+            public String toString()
+            {
+                return CompiledTemplate.compile("inner {0}").render("x");
+            }
+        };
+
+        assertEquals("outer [inner x]", CompiledTemplate.compile("outer [{0}]").render(inner));
+    }
+
+    private static void assertMatchesMessageFormat(String template, Object...args)
+    {
+        assertEquals(MessageFormat.format(template, args), CompiledTemplate.compile(template).render(args), template);
+    }
+
+    record RecordFailureType(String template) implements FailureType
+    {
+        @Override
+        public String title()
+        {
+            return "record";
+        }
+    }
+
+    enum TemplateFailureType implements FailureType
+    {
+        POSITIONAL("positional", "{} then {}"),
+        INDEXED("indexed", "Value {0}");
+
+        private final String title;
+        private final String template;
+
+        TemplateFailureType(String title, String template)
+        {
+            this.title = title;
+            this.template = template;
+        }
+
+        @Override
+        public String title()
+        {
+            return title;
+        }
+
+        @Override
+        public String template()
+        {
+            return template;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package org.saltations.systematics.core;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+import org.saltations.systematics.test.fixture.ReplaceBDDCamelCase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayNameGeneration(ReplaceBDDCamelCase.class)
+class FailureDetailTest
+{
+    @Test
+    void givenTemplatedFailure_whenCreated_thenDetailIsNotRendered()
+    {
+        var failure = Outcomes.genericFailure("Title", "Could not process {0}", "record-42");
+
+        assertFalse(failure.details().isRendered(), "Should not have rendered the detail");
+    }
+
+    @Test
+    void givenTemplatedFailure_whenDetailRead_thenRendersOnceAndCaches()
+    {
+        var failure = Outcomes.genericFailure("Title", "Could not process {0}", "record-42");
+
+        var first = failure.detail();
+        var second = failure.detail();
+
+        assertEquals("Could not process record-42", first);
+        assertTrue(failure.details().isRendered(), "Should have rendered the detail");
+        assertSame(first, second, "Should return the cached rendering");
+    }
+
+    @Test
+    void givenDeferredAndRenderedDetails_whenCompared_thenEqualByText()
+    {
+        var deferred = new Failure<String>(BasicFailureType.GENERIC, "Title", FailureDetail.deferred("Value {0}", "x"), null);
+        var rendered = new Failure<String>(BasicFailureType.GENERIC, "Title", "Value x", null);
+
+        assertEquals(rendered, deferred, "Should be equal");
+        assertEquals(rendered.hashCode(), deferred.hashCode(), "Should have equal hash codes");
+    }
+
+    @Test
+    void givenDeferredDetail_whenFailurePrinted_thenShowsRenderedDetailAsBefore()
+    {
+        var failure = new Failure<String>(BasicFailureType.GENERIC, "Title", FailureDetail.deferred("Value {0}", "x"), null);
+
+        assertEquals("Failure[type=GENERIC, title=Title, detail=Value x, cause=null]", failure.toString());
+    }
+
+    @Test
+    void givenInvalidTemplate_whenCreated_thenOnlyFailsOnRead()
+    {
+        var failure = Outcomes.genericFailure("Title", "Unbalanced {0", "x");
+
+        assertThrows(IllegalArgumentException.class, failure::detail);
+    }
+}
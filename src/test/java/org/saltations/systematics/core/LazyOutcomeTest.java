@@ -0,0 +1,117 @@
+package org.saltations.systematics.core;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+import org.saltations.systematics.test.fixture.ReplaceBDDCamelCase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayNameGeneration(ReplaceBDDCamelCase.class)
+class LazyOutcomeTest
+{
+    @Test
+    void givenRecordedTransformations_whenNeverRead_thenNothingRuns()
+    {
+        var calls = new AtomicInteger();
+
+        var lazy = LazyOutcome.attempt(calls::incrementAndGet)
+                              .map(value -> calls.incrementAndGet())
+                              .flatMap(value -> Outcomes.success(calls.incrementAndGet()));
+
+        assertFalse(lazy.isEvaluated());
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    void givenRecordedTransformations_whenRead_thenRunsChainOnce()
+    {
+        var calls = new AtomicInteger();
+
+        var lazy = LazyOutcome.attempt(() -> 20)
+                              .map(value -> value + calls.incrementAndGet())
+                              .flatMap(value -> Outcomes.success(value * 2));
+
+        assertTrue(lazy.isSuccess());
+        assertEquals(42, lazy.get());
+        assertEquals(42, lazy.getPotential().orElseThrow());
+        assertTrue(lazy.isEvaluated());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void givenFailingOperation_whenOrElseRecorded_thenAlternativeUsedOnRead()
+    {
+        var lazy = LazyOutcome.<Integer>attempt(() -> { throw new IllegalStateException("Down"); })
+                              .orElse(() -> Outcomes.success(7));
+
+        assertEquals(7, lazy.get());
+    }
+
+    @Test
+    void givenFailingOperation_whenRead_thenFailureIsCapturedAndMapSkipped()
+    {
+        var calls = new AtomicInteger();
+
+        var lazy = LazyOutcome.<Integer>attempt(() -> { throw new IllegalStateException("Down"); })
+                              .map(calls::addAndGet);
+
+        assertTrue(lazy.isFailure());
+        assertEquals("Down", lazy.asFailure().cause().getMessage());
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    void givenManyThreads_whenReadConcurrently_thenEvaluatesOnceAndAllSeeSameOutcome() throws InterruptedException
+    {
+        var calls = new AtomicInteger();
+        var start = new CountDownLatch(1);
+        var lazy = LazyOutcome.attempt(() -> {
+            Thread.sleep(10);
+            return calls.incrementAndGet();
+        });
+
+        var seen = new Outcome<?>[16];
+        var threads = new ArrayList<Thread>();
+
+        for (int i = 0; i < seen.length; i++) {
+            var index = i;
+            threads.add(Thread.ofVirtual().start(() -> {
+                try {
+                    start.await();
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                seen[index] = lazy.outcome();
+            }));
+        }
+
+        start.countDown();
+
+        for (var thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(1, calls.get());
+        for (var outcome : seen) {
+            assertSame(seen[0], outcome);
+        }
+    }
+
+    @Test
+    void givenCompletedOutcome_whenCreated_thenIsAlreadyEvaluated()
+    {
+        var success = Outcomes.success(1);
+        var lazy = LazyOutcome.completed(success);
+
+        assertTrue(lazy.isEvaluated());
+        assertSame(success, lazy.outcome());
+    }
+}
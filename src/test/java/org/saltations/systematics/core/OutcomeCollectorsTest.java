@@ -0,0 +1,93 @@
+package org.saltations.systematics.core;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+import org.saltations.systematics.test.fixture.ReplaceBDDCamelCase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayNameGeneration(ReplaceBDDCamelCase.class)
+class OutcomeCollectorsTest
+{
+    @Test
+    void givenMixedOutcomes_whenPartitioned_thenSplitsInOnePass()
+    {
+        var partition = outcomes().collect(OutcomeCollectors.partitioning());
+
+        assertEquals(List.of(1, 3), partition.successes());
+        assertEquals(3, partition.failures().size());
+    }
+
+    @Test
+    void givenMixedOutcomes_whenCounted_thenCountsSuccessesAndFailures()
+    {
+        var counts = outcomes().collect(OutcomeCollectors.counting());
+
+        assertEquals(new OutcomeCounts(2, 3), counts);
+        assertEquals(5, counts.total());
+    }
+
+    @Test
+    void givenEnumFailureTypes_whenGroupedByType_thenUsesEnumMap()
+    {
+        var groups = outcomes().collect(OutcomeCollectors.failuresByType(BasicFailureType.class));
+
+        assertInstanceOf(EnumMap.class, groups);
+        assertEquals(2, groups.get(BasicFailureType.GENERIC).size());
+        assertEquals(1, groups.get(BasicFailureType.CATASTROPHIC).size());
+    }
+
+    @Test
+    void givenEnumFailureTypes_whenCountedByType_thenOnlyNonZeroTypesArePresent()
+    {
+        var counts = outcomes().collect(OutcomeCollectors.countingFailuresByType(BasicFailureType.class));
+
+        assertEquals(Map.of(BasicFailureType.GENERIC, 2L, BasicFailureType.CATASTROPHIC, 1L), counts);
+    }
+
+    @Test
+    void givenAnyFailureTypes_whenCountedByType_thenCountsPerType()
+    {
+        var counts = outcomes().collect(OutcomeCollectors.countingFailuresByType());
+
+        assertEquals(Map.of(BasicFailureType.GENERIC, 2L, BasicFailureType.CATASTROPHIC, 1L), counts);
+    }
+
+    @Test
+    void givenParallelStream_whenCollected_thenMatchesSequential()
+    {
+        var counts = IntStream.range(0, 100_000)
+                              .parallel()
+                              .mapToObj(i -> i % 10 == 0 ? Outcomes.<Integer>typedFailure(BasicFailureType.CATASTROPHIC) : Outcomes.success(i))
+                              .map(outcome -> (Outcome<Integer>) outcome)
+                              .collect(OutcomeCollectors.countingFailuresByType(BasicFailureType.class));
+
+        assertEquals(10_000L, counts.get(BasicFailureType.CATASTROPHIC));
+    }
+
+    @Test
+    void givenForeignFailureType_whenGroupedByEnum_thenThrows()
+    {
+        Stream<Outcome<Integer>> outcomes = Stream.of(Outcomes.typedFailure(OutcomesTest.NewFailureType.NEW_FAILURE, "x"));
+
+        assertThrows(IllegalArgumentException.class, () -> outcomes.collect(OutcomeCollectors.failuresByType(BasicFailureType.class)));
+    }
+
+    private static Stream<Outcome<Integer>> outcomes()
+    {
+        return Stream.of(
+            Outcomes.success(1),
+            Outcomes.genericFailure("First"),
+            Outcomes.success(3),
+            Outcomes.typedFailure(BasicFailureType.CATASTROPHIC),
+            Outcome.attempt(() -> Integer.parseInt("abc")));
+    }
+}
@@ -1,5 +1,9 @@
 package org.saltations.systematics.core;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.Test;
 import org.saltations.systematics.test.fixture.ReplaceBDDCamelCase;
@@ -86,6 +90,70 @@ class OutcomesTest {
         assertThrows(IllegalStateException.class, outcome::get);
     }
 
+    @Test
+    void givenAllSuccesses_whenSequence_thenReturnsSuccessWithValuesInOrder() {
+        var outcome = Outcomes.sequence(List.of(Outcomes.success(1), Outcomes.success(2), Outcomes.success(3)));
+        assertTrue(outcome.isSuccess());
+        assertEquals(List.of(1, 2, 3), outcome.get());
+    }
+
+    @Test
+    void givenFailure_whenSequence_thenReturnsFirstFailureInstance() {
+        Outcome<Integer> first = Outcomes.genericFailure("First");
+        Outcome<Integer> second = Outcomes.genericFailure("Second");
+        var outcome = Outcomes.sequence(List.of(Outcomes.success(1), first, second));
+        assertSame(first, outcome);
+    }
+
+    @Test
+    void givenFailure_whenTraverse_thenStopsApplyingFunction() {
+        var applied = new ArrayList<String>();
+        var outcome = Outcomes.traverse(List.of("1", "x", "3"), text -> {
+            applied.add(text);
+            return Outcome.attempt(() -> Integer.parseInt(text));
+        });
+        assertTrue(outcome.isFailure());
+        assertEquals(List.of("1", "x"), applied);
+    }
+
+    @Test
+    void givenAllParseable_whenTraverse_thenReturnsSuccessWithValues() {
+        var outcome = Outcomes.traverse(List.of("1", "2", "3"), text -> Outcome.attempt(() -> Integer.parseInt(text)));
+        assertEquals(List.of(1, 2, 3), outcome.get());
+    }
+
+    @Test
+    void givenTwoSuccesses_whenCombine_thenAppliesFunction() {
+        var outcome = Outcomes.combine(Outcomes.success(1), Outcomes.success("x"), (a, b) -> a + ":" + b);
+        assertEquals("1:x", outcome.get());
+    }
+
+    @Test
+    void givenEightSuccesses_whenCombine_thenAppliesFunctionToAllValues() {
+        Outcome<Integer> one = Outcomes.success(1);
+        var outcome = Outcomes.combine(one, one, one, one, one, one, one, one, (a, b, c, d, e, f, g, h) -> a + b + c + d + e + f + g + h);
+        assertEquals(8, outcome.get());
+    }
+
+    @Test
+    void givenSeveralFailures_whenCombine_thenReturnsFirstFailureWithoutCallingFunction() {
+        var calls = new AtomicInteger();
+        Outcome<Integer> one = Outcomes.success(1);
+        Outcome<Integer> first = Outcomes.genericFailure("first");
+        Outcome<Integer> second = Outcomes.genericFailure("second");
+
+        var outcome = Outcomes.combine(one, first, one, second, one, (a, b, c, d, e) -> calls.incrementAndGet());
+
+        assertSame(first, outcome);
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    void givenTriFunction_whenAndThen_thenTransformsResult() {
+        TriFunction<Integer, Integer, Integer, Integer> sum = (a, b, c) -> a + b + c;
+        assertEquals("6", sum.andThen(String::valueOf).apply(1, 2, 3));
+    }
+
     enum NewFailureType implements FailureType {
         NEW_FAILURE("New failure", "New failure: {0}");
 
@@ -0,0 +1,81 @@
+package org.saltations.systematics.core;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+import org.saltations.systematics.test.fixture.ReplaceBDDCamelCase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayNameGeneration(ReplaceBDDCamelCase.class)
+class PipelineTest
+{
+    @Test
+    void givenMapAndFlatMapStages_whenApplied_thenMatchesChainedCalls()
+    {
+        var pipeline = Pipeline.<String>start()
+                               .map(String::trim)
+                               .map(Integer::parseInt)
+                               .flatMap(value -> Outcomes.success(value * 2))
+                               .map(value -> value + 1);
+
+        var chained = Outcomes.success(" 20 ")
+                              .map(String::trim)
+                              .map(Integer::parseInt)
+                              .flatMap(value -> Outcomes.success(value * 2))
+                              .map(value -> value + 1);
+
+        assertEquals(4, pipeline.size());
+        assertEquals(chained, pipeline.apply(" 20 "));
+        assertEquals(41, pipeline.apply(" 20 ").get());
+    }
+
+    @Test
+    void givenFailingFlatMapStage_whenApplied_thenReturnsThatFailureAndSkipsLaterStages()
+    {
+        var later = new AtomicInteger();
+        Failure<Integer> failure = Outcomes.genericFailure("unknown-sku");
+
+        var pipeline = Pipeline.<Integer>start()
+                               .flatMap(value -> failure)
+                               .map(later::addAndGet);
+
+        assertSame(failure, pipeline.apply(1));
+        assertEquals(0, later.get());
+    }
+
+    @Test
+    void givenFailureInput_whenApplied_thenReturnsItWithoutRunningStages()
+    {
+        var calls = new AtomicInteger();
+        Outcome<Integer> failure = Outcomes.genericFailure("unknown-sku");
+
+        var pipeline = Pipeline.<Integer>start().map(value -> calls.incrementAndGet());
+
+        assertSame(failure, pipeline.apply(failure));
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    void givenLastStageIsFlatMap_whenApplied_thenReturnsItsOutcomeWithoutRewrapping()
+    {
+        var result = Outcomes.success(7);
+        var pipeline = Pipeline.<Integer>start().map(value -> value + 1).flatMap(value -> result);
+
+        assertSame(result, pipeline.apply(1));
+    }
+
+    @Test
+    void givenPipeline_whenStageAdded_thenOriginalIsUnchanged()
+    {
+        var base = Pipeline.<Integer>start().map(value -> value + 1);
+        var extended = base.map(value -> value * 10);
+
+        assertEquals(2, base.apply(1).get());
+        assertEquals(20, extended.apply(1).get());
+        assertTrue(Pipeline.<Integer>start().apply(5).isSuccess());
+    }
+}
@@ -0,0 +1,87 @@
+package org.saltations.systematics.core;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+import org.saltations.systematics.test.fixture.ReplaceBDDCamelCase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.saltations.systematics.core.Outcome.attempt;
+
+@DisplayNameGeneration(ReplaceBDDCamelCase.class)
+class PrimitiveOutcomeTest
+{
+    @Test
+    void givenSuccess_whenMappedToInt_thenCarriesPrimitive()
+    {
+        var outcome = attempt(() -> "123").mapToInt(Integer::parseInt);
+
+        assertInstanceOf(IntSuccess.class, outcome);
+        assertEquals(124, outcome.map(value -> value + 1).getAsInt());
+    }
+
+    @Test
+    void givenIntSuccess_whenBridged_thenConvertsBetweenPrimitives()
+    {
+        var outcome = IntOutcome.success(3)
+                                .mapToLong(value -> value * 1_000_000_000L)
+                                .mapToDouble(value -> value / 2.0);
+
+        assertEquals(1.5e9, outcome.getAsDouble());
+        assertEquals(1_500_000_000L, outcome.mapToLong(value -> (long) value).getAsLong());
+    }
+
+    @Test
+    void givenIntSuccess_whenMappedToObj_thenIsOrdinarySuccess()
+    {
+        var outcome = IntOutcome.success(42).mapToObj(Integer::toString);
+
+        assertInstanceOf(Success.class, outcome);
+        assertEquals("42", outcome.get());
+        assertEquals(42, IntOutcome.success(42).boxed().get());
+    }
+
+    @Test
+    void givenFailure_whenMappedThroughPrimitives_thenSameFailureComesBack()
+    {
+        Outcome<String> failure = Outcomes.genericFailure("Not a number");
+
+        var primitive = failure.mapToInt(Integer::parseInt)
+                               .map(value -> value + 1)
+                               .mapToLong(value -> value)
+                               .mapToDouble(value -> value);
+
+        assertTrue(primitive.isFailure());
+        assertSame(failure, primitive.asFailure(), "Should be the original failure");
+        assertSame(failure, primitive.mapToObj(value -> value).asFailure(), "Should be the original failure");
+        assertEquals(-1.0, primitive.getOrElse(-1.0));
+        assertThrows(IllegalStateException.class, primitive::getAsDouble);
+    }
+
+    @Test
+    void givenPrimitiveOutcomes_whenOrElse_thenFollowsOutcomeOrElse()
+    {
+        var success = IntOutcome.success(1);
+        var failure = IntOutcome.failure(Outcomes.genericFailure("Nope"));
+
+        assertSame(success, success.orElse(() -> IntOutcome.success(2)), "A success should return itself");
+        assertEquals(2, failure.orElse(() -> IntOutcome.success(2)).getAsInt());
+        assertEquals(2L, LongOutcome.failure(failure.asFailure()).orElse(() -> LongOutcome.success(2L)).getAsLong());
+        assertEquals(2.0, DoubleOutcome.failure(failure.asFailure()).orElse(() -> DoubleOutcome.success(2.0)).getAsDouble());
+        assertEquals(1, success.getOrElse(2));
+    }
+
+    @Test
+    void givenLongSuccess_whenFlatMappedToFailure_thenIsFailure()
+    {
+        var failure = Outcomes.genericFailure("Too large");
+        var outcome = LongOutcome.success(Long.MAX_VALUE)
+                                 .flatMap(value -> value > Integer.MAX_VALUE ? LongOutcome.failure(failure) : LongOutcome.success(value));
+
+        assertTrue(outcome.isFailure());
+        assertSame(failure, outcome.asFailure());
+    }
+}
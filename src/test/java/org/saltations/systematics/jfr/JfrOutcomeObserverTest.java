@@ -0,0 +1,90 @@
+package org.saltations.systematics.jfr;
+
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.List;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+import org.saltations.systematics.core.Outcome;
+import org.saltations.systematics.core.Outcomes;
+import org.saltations.systematics.test.fixture.ReplaceBDDCamelCase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayNameGeneration(ReplaceBDDCamelCase.class)
+class JfrOutcomeObserverTest
+{
+    @Test
+    void givenRecording_whenFailuresAndSlowAttempts_thenEventsAreRecorded() throws Exception
+    {
+        var events = record(Duration.ZERO, () -> {
+            Outcomes.genericFailure("Lookup failed");
+            Outcome.attempt(() -> Integer.parseInt("abc"));
+            Outcome.attempt(() -> {
+                Thread.sleep(20);
+                return 1;
+            });
+        });
+
+        var failures = events.stream().filter(event -> event.getEventType().getName().endsWith("OutcomeFailure")).toList();
+        var slow = events.stream().filter(event -> event.getEventType().getName().endsWith("SlowAttempt")).toList();
+
+        assertEquals(2, failures.size());
+        assertEquals("Lookup failed", failures.get(0).getString("title"));
+        assertFalse(failures.get(0).getBoolean("attempted"));
+        assertTrue(failures.get(1).getBoolean("attempted"));
+        assertEquals(NumberFormatException.class.getName(), failures.get(1).getClass("causeClass").getName());
+
+        assertEquals(1, slow.size());
+        assertTrue(slow.get(0).getBoolean("success"));
+        assertTrue(slow.get(0).getDuration().toMillis() >= 20);
+    }
+
+    @Test
+    void givenFailureThreshold_whenAttemptsFail_thenOnlySlowFailuresAreRecorded() throws Exception
+    {
+        var events = record(Duration.ofMillis(10), () -> {
+            Outcomes.genericFailure("Lookup failed");
+            Outcome.attempt(() -> Integer.parseInt("abc"));
+            Outcome.attempt(() -> {
+                Thread.sleep(20);
+                return Integer.parseInt("slow");
+            });
+        });
+
+        var failures = events.stream().filter(event -> event.getEventType().getName().endsWith("OutcomeFailure")).toList();
+
+        assertEquals(1, failures.size());
+        assertTrue(failures.get(0).getBoolean("attempted"));
+        assertTrue(failures.get(0).getDuration().toMillis() >= 20);
+    }
+
+    private static List<RecordedEvent> record(Duration failureThreshold, Runnable work) throws Exception
+    {
+        var observer = new JfrOutcomeObserver().install();
+        var file = Files.createTempFile("outcomes", ".jfr");
+
+        try (var recording = new Recording()) {
+            recording.enable(OutcomeFailureEvent.class).withThreshold(failureThreshold);
+            recording.enable(SlowAttemptEvent.class).withThreshold(Duration.ofMillis(10));
+            recording.start();
+
+            work.run();
+
+            recording.stop();
+            recording.dump(file);
+
+            return RecordingFile.readAllEvents(file);
+        }
+        finally {
+            observer.uninstall();
+            Files.deleteIfExists(file);
+        }
+    }
+}
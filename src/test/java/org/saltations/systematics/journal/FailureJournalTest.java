@@ -0,0 +1,180 @@
+package org.saltations.systematics.journal;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+import org.saltations.systematics.codec.RemoteCauseException;
+import org.saltations.systematics.core.BasicFailureType;
+import org.saltations.systematics.core.Outcome;
+import org.saltations.systematics.core.Outcomes;
+import org.saltations.systematics.test.fixture.ReplaceBDDCamelCase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayNameGeneration(ReplaceBDDCamelCase.class)
+class FailureJournalTest
+{
+    private Path directory;
+
+    @BeforeEach
+    void createDirectory() throws IOException
+    {
+        directory = Files.createTempDirectory("failure-journal");
+    }
+
+    @AfterEach
+    void deleteDirectory() throws IOException
+    {
+        try (var files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    void givenAppendedFailures_whenRead_thenRecordsComeBackInOrder() throws IOException
+    {
+        try (var journal = FailureJournal.open(directory, "failures-", 64 * 1024)) {
+            assertTrue(journal.append(Outcomes.typedFailure(BasicFailureType.TIMEOUT, 250)));
+            assertTrue(journal.append(Outcomes.causedFailure(new IOException("Connection reset"), "fetch-failed")));
+        }
+
+        var records = read();
+
+        assertEquals(2, records.size());
+        assertEquals("timeout-failure", records.get(0).failure().type().title());
+        assertEquals("Did not complete within 250 ms", records.get(0).failure().detail());
+        assertEquals(Thread.currentThread().threadId(), records.get(0).threadId());
+        assertTrue(records.get(0).timestampMillis() > 0);
+
+        var cause = assertInstanceOf(RemoteCauseException.class, records.get(1).failure().cause());
+        assertEquals("java.io.IOException", cause.causeClassName());
+        assertEquals("fetch-failed", records.get(1).failure().title());
+    }
+
+    @Test
+    void givenMoreThanOneSegmentOfRecords_whenAppended_thenRotatesAndReaderSeesAll() throws IOException
+    {
+        try (var journal = FailureJournal.open(directory, "failures-", 4 * 1024)) {
+            for (int i = 0; i < 500; i++) {
+                journal.append(Outcomes.genericFailure("failure-" + i));
+            }
+
+            assertEquals(500, journal.appended());
+        }
+
+        var reader = JournalReader.open(directory, "failures-");
+        var records = read();
+
+        assertTrue(reader.segments().size() > 1);
+        assertEquals(500, records.size());
+        assertEquals("failure-499", records.get(499).failure().title());
+    }
+
+    @Test
+    void givenConcurrentWriters_whenAppended_thenNoRecordIsLostOrTorn() throws Exception
+    {
+        var threads = new ArrayList<Thread>();
+
+        try (var journal = FailureJournal.open(directory, "failures-", 16 * 1024)) {
+            for (int t = 0; t < 8; t++) {
+                var writer = t;
+                threads.add(Thread.ofPlatform().start(() -> {
+                    for (int i = 0; i < 1_000; i++) {
+                        journal.append(Outcomes.genericFailure(writer + ":" + i));
+                    }
+                }));
+            }
+
+            for (var thread : threads) {
+                thread.join();
+            }
+        }
+
+        var titles = new HashSet<String>();
+
+        for (var record : read()) {
+            titles.add(record.failure().title());
+        }
+
+        assertEquals(8_000, titles.size());
+    }
+
+    @Test
+    void givenInstalledJournal_whenAttemptFails_thenFailureIsJournaled() throws IOException
+    {
+        try (var journal = FailureJournal.open(directory, "failures-", 64 * 1024).install()) {
+            Outcome.attempt(() -> { throw new IllegalStateException("Down"); });
+            Outcome.attempt(() -> "fine");
+
+            assertEquals(1, journal.appended());
+        }
+
+        var records = read();
+
+        assertEquals(1, records.size());
+        assertEquals("Down", records.get(0).failure().cause().getMessage());
+    }
+
+    @Test
+    void givenClosedJournal_whenAppended_thenDrops() throws IOException
+    {
+        var journal = FailureJournal.open(directory, "failures-", 64 * 1024);
+        journal.close();
+
+        assertFalse(journal.append(Outcomes.genericFailure("late")));
+        assertEquals(1, journal.dropped());
+    }
+
+    @Test
+    void givenFailureThatThrowsWhileEncoding_whenAppended_thenDropsItAndReaderStepsOverIt() throws IOException
+    {
+        try (var journal = FailureJournal.open(directory, "failures-", 64 * 1024)) {
+            journal.append(Outcomes.genericFailure("before"));
+
+            // Each read of the message is longer than the last, so the record outgrows the space sized for it
+            var growing = new IOException() {
+                private final StringBuilder message = new StringBuilder();
+
+                @Override
+                public String getMessage()
+                {
+                    return message.append("more").toString();
+                }
+            };
+
+            assertThrows(BufferOverflowException.class, () -> journal.append(Outcomes.causedFailure(growing, "growing")));
+            journal.append(Outcomes.genericFailure("after"));
+
+            assertEquals(2, journal.appended());
+            assertEquals(1, journal.dropped());
+        }
+
+        var records = read();
+
+        assertEquals(2, records.size());
+        assertEquals("before", records.get(0).failure().title());
+        assertEquals("after", records.get(1).failure().title());
+    }
+
+    private List<JournalRecord> read() throws IOException
+    {
+        var records = new ArrayList<JournalRecord>();
+        JournalReader.open(directory, "failures-").forEach(records::add);
+
+        return records;
+    }
+}
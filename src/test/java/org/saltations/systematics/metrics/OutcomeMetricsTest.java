@@ -0,0 +1,82 @@
+package org.saltations.systematics.metrics;
+
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+import org.saltations.systematics.core.BasicFailureType;
+import org.saltations.systematics.core.Outcome;
+import org.saltations.systematics.core.OutcomeObservers;
+import org.saltations.systematics.core.Outcomes;
+import org.saltations.systematics.test.fixture.ReplaceBDDCamelCase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@DisplayNameGeneration(ReplaceBDDCamelCase.class)
+class OutcomeMetricsTest
+{
+    @Test
+    void givenInstalledMetrics_whenOutcomesCreated_thenCountsPerTypeAndTitle()
+    {
+        var metrics = new OutcomeMetrics().install();
+
+        try {
+            Outcomes.success("value");
+            Outcome.attempt(() -> Integer.parseInt("123"));
+            Outcome.attempt(() -> Integer.parseInt("abc"));
+            Outcomes.genericFailure("Lookup failed");
+            Outcomes.genericFailure("Lookup failed");
+            Outcomes.typedFailure(BasicFailureType.CATASTROPHIC);
+        }
+        finally {
+            metrics.uninstall();
+        }
+
+        var snapshot = metrics.snapshot();
+
+        assertEquals(2, snapshot.successes());
+        assertEquals(4, snapshot.failures());
+        assertEquals(3, snapshot.failures(BasicFailureType.GENERIC));
+        assertEquals(2, snapshot.failures(BasicFailureType.GENERIC, "Lookup failed"));
+        assertEquals(1, snapshot.failures(BasicFailureType.CATASTROPHIC, "catastrophic-failure"));
+    }
+
+    @Test
+    void givenUninstalledMetrics_whenOutcomesCreated_thenNothingIsCounted()
+    {
+        var metrics = new OutcomeMetrics().install();
+        metrics.uninstall();
+
+        Outcomes.genericFailure("Not counted");
+
+        assertFalse(OutcomeObservers.isActive(), "No observer should remain registered");
+        assertEquals(0, metrics.snapshot().failures());
+    }
+
+    @Test
+    void givenManyDistinctTitles_whenRecorded_thenExtraTitlesAreFolded()
+    {
+        var metrics = new OutcomeMetrics(2);
+
+        IntStream.range(0, 5).forEach(i -> metrics.record(Outcomes.genericFailure("Title " + i)));
+
+        var snapshot = metrics.snapshot();
+
+        assertEquals(5, snapshot.failures(BasicFailureType.GENERIC));
+        assertEquals(3, snapshot.failures(BasicFailureType.GENERIC, OutcomeMetrics.OTHER_TITLES));
+    }
+
+    @Test
+    void givenConcurrentRecording_whenSnapshot_thenNoCountsAreLost()
+    {
+        var metrics = new OutcomeMetrics();
+
+        IntStream.range(0, 100_000).parallel().forEach(i -> metrics.record(i % 2 == 0 ? Outcomes.success(i) : Outcomes.genericFailure("Odd")));
+
+        var snapshot = metrics.snapshot();
+
+        assertEquals(50_000, snapshot.successes());
+        assertEquals(50_000, snapshot.failures(BasicFailureType.GENERIC, "Odd"));
+    }
+}
@@ -0,0 +1,120 @@
+package org.saltations.systematics.problem;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+import org.saltations.systematics.core.BasicFailureType;
+import org.saltations.systematics.core.Failure;
+import org.saltations.systematics.core.FailureType;
+import org.saltations.systematics.core.Outcomes;
+import org.saltations.systematics.test.fixture.ReplaceBDDCamelCase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayNameGeneration(ReplaceBDDCamelCase.class)
+class ProblemDetailsWriterTest
+{
+    private final ProblemDetailsWriter writer = ProblemDetailsWriter.withTypeBase("https://example.com/problems/");
+
+    @Test
+    void givenTypedFailure_whenWritten_thenTypeTitleAndDetailAreMapped() throws IOException
+    {
+        var failure = Outcomes.typedFailure(BasicFailureType.TIMEOUT, 250);
+
+        assertEquals("{\"type\":\"https://example.com/problems/timeout-failure\",\"title\":\"timeout-failure\",\"detail\":\"Did not complete within 250 ms\"}",
+                     toString(writer, failure));
+    }
+
+    @Test
+    void givenStatusMapping_whenWritten_thenIncludesStatus() throws IOException
+    {
+        var withStatus = writer.withStatus(type -> type == BasicFailureType.TIMEOUT ? 504 : 0);
+
+        assertEquals("{\"type\":\"https://example.com/problems/timeout-failure\",\"title\":\"timeout-failure\",\"status\":504,\"detail\":\"Did not complete within 250 ms\"}",
+                     toString(withStatus, Outcomes.typedFailure(BasicFailureType.TIMEOUT, 250)));
+    }
+
+    @Test
+    void givenCauseChain_whenWritten_thenCausesExtensionListsEachCause() throws IOException
+    {
+        var cause = new IllegalStateException("Pool exhausted", new IOException("Connection reset"));
+        var failure = Outcomes.causedFailure(cause, "lookup-failed");
+
+        assertEquals("{\"type\":\"https://example.com/problems/generic-failure\",\"title\":\"lookup-failed\",\"causes\":["
+                     + "{\"class\":\"java.lang.IllegalStateException\",\"message\":\"Pool exhausted\"},"
+                     + "{\"class\":\"java.io.IOException\",\"message\":\"Connection reset\"}]}",
+                     toString(writer, failure));
+
+        assertEquals(1, toString(writer.withCauseDepth(1), failure).split("\"class\"").length - 1);
+        assertEquals(-1, toString(writer.withCauseDepth(0), failure).indexOf("causes"));
+    }
+
+    @Test
+    void givenSpecialCharacters_whenWritten_thenEscapesAndStreamMatchesWriter() throws IOException
+    {
+        var failure = new Failure<>(BasicFailureType.GENERIC, "bad \"input\"", "line1\nline2\t\\ é 𝄞 \u0001", null);
+
+        var text = toString(writer, failure);
+        var bytes = new ByteArrayOutputStream();
+        writer.write(failure, bytes);
+
+        assertEquals("{\"type\":\"https://example.com/problems/generic-failure\",\"title\":\"bad \\\"input\\\"\",\"detail\":\"line1\\nline2\\t\\\\ é 𝄞 \\u0001\"}", text);
+        assertEquals(text, bytes.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void givenTypeTitleWithSpacesAndReservedCharacters_whenWritten_thenTypeSegmentIsPercentEncoded() throws IOException
+    {
+        var failure = new Failure<>(new TitledType("Out of stock/100% é~"), "", "", null);
+        var bytes = new ByteArrayOutputStream();
+        writer.write(failure, bytes);
+
+        assertEquals("{\"type\":\"https://example.com/problems/Out%20of%20stock%2F100%25%20%C3%A9~\",\"title\":\"Out of stock/100% é~\"}",
+                     toString(writer, failure));
+        assertEquals(toString(writer, failure), bytes.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void givenTypeWithoutTitle_whenWritten_thenTypeIsAboutBlank() throws IOException
+    {
+        var failure = new Failure<>(new BlankType(), "", "", null);
+
+        assertEquals("{\"type\":\"about:blank\"}", toString(writer, failure));
+    }
+
+    private static String toString(ProblemDetailsWriter writer, Failure<?> failure) throws IOException
+    {
+        var out = new StringWriter();
+        writer.write(failure, out);
+
+        return out.toString();
+    }
+
+    private record BlankType() implements FailureType
+    {
+        @Override
+        public String title()
+        {
+            return "";
+        }
+
+        @Override
+        public String template()
+        {
+            return "";
+        }
+    }
+
+    private record TitledType(String title) implements FailureType
+    {
+        @Override
+        public String template()
+        {
+            return "";
+        }
+    }
+}
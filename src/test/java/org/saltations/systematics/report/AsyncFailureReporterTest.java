@@ -0,0 +1,161 @@
+package org.saltations.systematics.report;
+
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+import org.saltations.systematics.core.Failure;
+import org.saltations.systematics.core.Outcome;
+import org.saltations.systematics.core.Outcomes;
+import org.saltations.systematics.test.fixture.ReplaceBDDCamelCase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayNameGeneration(ReplaceBDDCamelCase.class)
+class AsyncFailureReporterTest
+{
+    @Test
+    void givenReportedFailures_whenConsumed_thenArriveOnReporterThread() throws InterruptedException
+    {
+        var received = new ConcurrentLinkedQueue<Failure<?>>();
+        var threads = new ConcurrentLinkedQueue<Thread>();
+        var done = new CountDownLatch(3);
+
+        try (var reporter = AsyncFailureReporter.start(16, failure -> {
+            received.add(failure);
+            threads.add(Thread.currentThread());
+            done.countDown();
+        })) {
+            for (int i = 0; i < 3; i++) {
+                assertTrue(reporter.report(Outcomes.genericFailure("failure-" + i)));
+            }
+
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            assertEquals(3, reporter.reported());
+        }
+
+        assertEquals("failure-0", received.peek().title());
+        assertNotEquals(Thread.currentThread(), threads.peek());
+    }
+
+    @Test
+    void givenFullBuffer_whenReported_thenDropsAndCountsWithoutBlocking() throws InterruptedException
+    {
+        var release = new CountDownLatch(1);
+
+        try (var reporter = AsyncFailureReporter.start(2, failure -> {
+            try {
+                release.await();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        })) {
+            for (int i = 0; i < 10; i++) {
+                reporter.report(Outcomes.genericFailure("failure-" + i));
+            }
+
+            assertTrue(reporter.dropped() >= 7);
+            assertEquals(10, reporter.reported() + reporter.dropped());
+
+            release.countDown();
+        }
+    }
+
+    @Test
+    void givenInstalledReporter_whenAttemptFails_thenFailureIsReported() throws InterruptedException
+    {
+        var done = new CountDownLatch(1);
+
+        try (var reporter = AsyncFailureReporter.start(16, failure -> done.countDown()).install()) {
+            Outcome.attempt(() -> { throw new IllegalStateException("Down"); });
+
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            assertTrue(reporter.reported() >= 1);
+        }
+    }
+
+    @Test
+    void givenThrowingConsumer_whenReported_thenCountsErrorAndKeepsGoing() throws InterruptedException
+    {
+        var done = new CountDownLatch(1);
+
+        try (var reporter = AsyncFailureReporter.start(16, failure -> {
+            if (failure.title().equals("bad")) {
+                throw new IllegalStateException("Consumer broke");
+            }
+            done.countDown();
+        })) {
+            reporter.report(Outcomes.genericFailure("bad"));
+            reporter.report(Outcomes.genericFailure("good"));
+
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            assertEquals(1, reporter.consumerErrors());
+        }
+    }
+
+    @Test
+    void givenProducersRacingClose_whenClosed_thenEveryReportedFailureIsDelivered() throws InterruptedException
+    {
+        for (int round = 0; round < 20; round++) {
+            var delivered = new LongAdder();
+            var reporter = AsyncFailureReporter.start(1 << 16, failure -> delivered.increment());
+            var producers = new ArrayList<Thread>();
+
+            for (int t = 0; t < 4; t++) {
+                producers.add(Thread.ofPlatform().start(() -> {
+                    var failure = Outcomes.genericFailure("racing");
+
+                    while (reporter.report(failure)) {
+                        // Keep reporting until the reporter closes
+                    }
+                }));
+            }
+
+            Thread.sleep(2);
+            reporter.close();
+
+            for (var producer : producers) {
+                producer.join();
+            }
+
+            // A report that raced the close counts as dropped but may still have been delivered
+            assertTrue(delivered.sum() >= reporter.reported(), "Every reported failure should be delivered");
+        }
+    }
+
+    @Test
+    void givenConsumerThrowingError_whenReported_thenCountsErrorAndKeepsGoing() throws InterruptedException
+    {
+        var done = new CountDownLatch(1);
+
+        try (var reporter = AsyncFailureReporter.start(16, failure -> {
+            if (failure.title().equals("bad")) {
+                throw new AssertionError("Consumer broke");
+            }
+            done.countDown();
+        })) {
+            reporter.report(Outcomes.genericFailure("bad"));
+            reporter.report(Outcomes.genericFailure("good"));
+
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            assertEquals(1, reporter.consumerErrors());
+        }
+    }
+
+    @Test
+    void givenClosedReporter_whenReported_thenDrops()
+    {
+        var reporter = AsyncFailureReporter.start(16, failure -> {});
+        reporter.close();
+
+        assertFalse(reporter.report(Outcomes.genericFailure("late")));
+    }
+}
@@ -0,0 +1,117 @@
+package org.saltations.systematics.report;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+import org.saltations.systematics.core.BasicFailureType;
+import org.saltations.systematics.core.Outcome;
+import org.saltations.systematics.core.Outcomes;
+import org.saltations.systematics.test.fixture.ReplaceBDDCamelCase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayNameGeneration(ReplaceBDDCamelCase.class)
+class FailureLogAggregatorTest
+{
+    private final List<String> lines = new ArrayList<>();
+    private final FailureLogAggregator aggregator = new FailureLogAggregator(Duration.ofSeconds(10), lines::add);
+
+    @Test
+    void givenIdenticalFailures_whenFlushed_thenEmitsOneCountedLine()
+    {
+        for (int i = 0; i < 1_000; i++) {
+            aggregator.record(Outcomes.typedFailure(BasicFailureType.TIMEOUT, 250));
+        }
+
+        aggregator.flush();
+
+        assertEquals(List.of("1000 x timeout-failure / timeout-failure (no cause) in 10s: Did not complete within 250 ms"), lines);
+    }
+
+    @Test
+    void givenDifferentCauseClasses_whenFlushed_thenEmitsOneLinePerKey()
+    {
+        aggregator.record(Outcomes.causedFailure(new IOException("a"), "fetch-failed"));
+        aggregator.record(Outcomes.causedFailure(new IOException("b"), "fetch-failed"));
+        aggregator.record(Outcomes.causedFailure(new IllegalStateException("c"), "fetch-failed"));
+
+        aggregator.flush();
+        Collections.sort(lines);
+
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).startsWith("1 x generic-failure / fetch-failed (java.lang.IllegalStateException) in 10s"));
+        assertTrue(lines.get(1).startsWith("2 x generic-failure / fetch-failed (java.io.IOException) in 10s"));
+    }
+
+    @Test
+    void givenFlushedCounts_whenFlushedAgainWithNoNewFailures_thenEmitsNothing()
+    {
+        aggregator.record(Outcomes.genericFailure("once"));
+        aggregator.flush();
+        lines.clear();
+
+        aggregator.flush();
+
+        assertTrue(lines.isEmpty());
+    }
+
+    @Test
+    void givenMoreKeysThanCap_whenFlushed_thenExtraKeysAreCountedTogether()
+    {
+        var capped = new FailureLogAggregator(Duration.ofMillis(500), lines::add, 2);
+
+        for (int i = 0; i < 5; i++) {
+            capped.record(Outcomes.genericFailure("failure-" + i));
+        }
+
+        capped.flush();
+
+        assertEquals(3, lines.size());
+        assertTrue(lines.contains("3 x (other failures) in 500ms"));
+    }
+
+    @Test
+    void givenObservedOutcomes_whenCreated_thenOnlyFailuresAreCounted()
+    {
+        aggregator.created(Outcome.attempt(() -> { throw new IllegalStateException("Down"); }));
+        aggregator.created(Outcome.attempt(() -> "fine"));
+
+        aggregator.flush();
+
+        assertEquals(1, lines.size());
+        assertTrue(lines.get(0).startsWith("1 x generic-failure"));
+    }
+
+    @Test
+    void givenStartedAggregator_whenIntervalPasses_thenSummaryIsEmittedOnSchedule() throws InterruptedException
+    {
+        var emitted = new CopyOnWriteArrayList<String>();
+        var firstLine = new CountDownLatch(1);
+        var scheduled = new FailureLogAggregator(Duration.ofMillis(20), line -> {
+            emitted.add(line);
+            firstLine.countDown();
+        });
+
+        // Counted before the schedule starts, so the first flush sees all of them
+        for (int i = 0; i < 10; i++) {
+            scheduled.record(Outcomes.causedFailure(new IllegalStateException("Down"), "down"));
+        }
+
+        try (scheduled) {
+            scheduled.start();
+            assertTrue(firstLine.await(5, TimeUnit.SECONDS), "Should have flushed on schedule");
+        }
+
+        assertEquals(10, emitted.stream().mapToLong(line -> Long.parseLong(line.substring(0, line.indexOf(" x ")))).sum());
+        assertTrue(emitted.get(0).startsWith("10 x generic-failure / down (java.lang.IllegalStateException)"));
+    }
+}
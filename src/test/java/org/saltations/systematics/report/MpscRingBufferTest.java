@@ -0,0 +1,77 @@
+package org.saltations.systematics.report;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+import org.saltations.systematics.test.fixture.ReplaceBDDCamelCase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayNameGeneration(ReplaceBDDCamelCase.class)
+class MpscRingBufferTest
+{
+    @Test
+    void givenFullBuffer_whenOffered_thenRejectsUntilPolled()
+    {
+        var buffer = new MpscRingBuffer<Integer>(3);
+
+        assertEquals(4, buffer.capacity());
+
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+
+        assertFalse(buffer.offer(4));
+        assertEquals(0, buffer.poll());
+        assertTrue(buffer.offer(4));
+
+        var drained = new ArrayList<Integer>();
+        assertEquals(4, buffer.drain(drained::add, 10));
+        assertEquals(List.of(1, 2, 3, 4), drained);
+        assertNull(buffer.poll());
+    }
+
+    @Test
+    void givenManyProducers_whenConsumedConcurrently_thenEveryAcceptedElementArrivesOnce() throws InterruptedException
+    {
+        var buffer = new MpscRingBuffer<Integer>(64);
+        var producers = new ArrayList<Thread>();
+        var accepted = new AtomicInteger();
+
+        for (int p = 0; p < 4; p++) {
+            var base = p * 100_000;
+            producers.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    while (!buffer.offer(base + i)) {
+                        Thread.onSpinWait();
+                    }
+                    accepted.incrementAndGet();
+                }
+            }));
+        }
+
+        var seen = new HashSet<Integer>();
+
+        while (seen.size() < 40_000) {
+            var element = buffer.poll();
+
+            if (element != null) {
+                assertTrue(seen.add(element));
+            }
+        }
+
+        for (var producer : producers) {
+            producer.join();
+        }
+
+        assertEquals(40_000, accepted.get());
+        assertNull(buffer.poll());
+    }
+}
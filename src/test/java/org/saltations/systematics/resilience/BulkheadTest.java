@@ -0,0 +1,170 @@
+package org.saltations.systematics.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+import org.saltations.systematics.core.Outcome;
+import org.saltations.systematics.core.OutcomeObserver;
+import org.saltations.systematics.core.OutcomeObservers;
+import org.saltations.systematics.test.fixture.ReplaceBDDCamelCase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayNameGeneration(ReplaceBDDCamelCase.class)
+class BulkheadTest
+{
+    @Test
+    void givenBulkheadAtLimit_whenAttempted_thenRejectsWithoutCalling() throws InterruptedException
+    {
+        var bulkhead = Bulkhead.fixed("inventory", 1);
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var first = new AtomicReference<Outcome<String>>();
+
+        var holder = Thread.ofVirtual().start(() -> first.set(bulkhead.attempt(() -> {
+            started.countDown();
+            release.await();
+            return "done";
+        })));
+
+        started.await();
+
+        var rejected = bulkhead.attempt(() -> "never");
+
+        assertTrue(rejected.isFailure());
+        assertEquals(ResilienceFailureType.BULKHEAD_FULL, rejected.asFailure().type());
+        assertEquals("Bulkhead inventory is at its limit of 1 concurrent calls", rejected.asFailure().detail());
+        assertEquals(1, bulkhead.inFlight());
+
+        release.countDown();
+        holder.join();
+
+        assertEquals("done", first.get().get());
+        assertEquals(0, bulkhead.inFlight());
+        assertTrue(bulkhead.attempt(() -> "again").isSuccess());
+    }
+
+    @Test
+    void givenObserver_whenBulkheadRejects_thenEveryRejectionIsObserved()
+    {
+        var bulkhead = Bulkhead.fixed("inventory", 1);
+        var rejections = new AtomicInteger();
+        OutcomeObserver observer = new OutcomeObserver()
+        {
+            @Override
+            public void created(Outcome<?> outcome)
+            {
+                if (outcome.isFailure() && outcome.asFailure().type() == ResilienceFailureType.BULKHEAD_FULL) {
+                    rejections.incrementAndGet();
+                }
+            }
+        };
+
+        OutcomeObservers.register(observer);
+
+        try {
+            for (int i = 0; i < 3; i++) {
+                // The nested call finds the only slot taken by the outer one
+                bulkhead.attempt(() -> bulkhead.attempt(() -> "nested"));
+            }
+
+            assertEquals(3, rejections.get());
+        }
+        finally {
+            OutcomeObservers.unregister(observer);
+        }
+    }
+
+    @Test
+    void givenFailingCall_whenAttempted_thenReleasesSlot()
+    {
+        var bulkhead = Bulkhead.fixed("inventory", 1);
+
+        assertTrue(bulkhead.attempt(() -> { throw new IllegalStateException("Down"); }).isFailure());
+        assertEquals(0, bulkhead.inFlight());
+    }
+
+    @Test
+    void givenSlowCalls_whenSampled_thenAdaptiveLimitBacksOff()
+    {
+        var limit = new AimdLimit(8, 1, 16, Duration.ofMillis(5), 0.5);
+
+        limit.onSample(Duration.ofMillis(50).toNanos(), 8, false);
+        assertEquals(4, limit.current());
+
+        limit.onSample(0L, 1, true);
+        assertEquals(2, limit.current());
+    }
+
+    @Test
+    void givenFastCallsAtLoad_whenSampled_thenAdaptiveLimitGrowsByOnePerLimitCalls()
+    {
+        var limit = new AimdLimit(4, 1, 16, Duration.ofMillis(5), 0.5);
+
+        for (int i = 0; i < 4; i++) {
+            limit.onSample(1_000L, 3, false);
+        }
+        assertEquals(5, limit.current());
+
+        limit.onSample(1_000L, 1, false);
+        assertEquals(5, limit.current());
+    }
+
+    @Test
+    void givenAdaptiveBulkhead_whenCallsFail_thenLimitBacksOffOnlyForDrops()
+    {
+        var limit = new AimdLimit(8, 1, 16, Duration.ofMinutes(1), 0.5);
+        var bulkhead = new Bulkhead("inventory", limit);
+
+        for (int i = 0; i < 6; i++) {
+            bulkhead.attempt(() -> { throw new IllegalArgumentException("Bad request"); });
+        }
+        assertEquals(8, limit.current());
+
+        bulkhead.attempt(() -> { throw new TimeoutException("Too slow"); });
+        assertEquals(4, limit.current());
+
+        bulkhead.attempt(() -> "fine");
+        assertEquals(4, limit.current());
+
+        bulkhead.attempt(() -> { throw new IllegalArgumentException("Bad request"); }, failure -> !(failure.cause() instanceof IllegalArgumentException));
+        assertEquals(4, limit.current());
+
+        bulkhead.attempt(() -> { throw new IllegalStateException("Down"); }, failure -> !(failure.cause() instanceof IllegalArgumentException));
+        assertEquals(2, limit.current());
+    }
+
+    @Test
+    void givenAdaptiveLimitMoved_whenRejected_thenDetailNamesNewLimit()
+    {
+        // A latency threshold no call gets near, so only the in-flight count moves the limit
+        var limit = new AimdLimit(1, 1, 4, Duration.ofMinutes(1), 0.5);
+        var bulkhead = new Bulkhead("inventory", limit);
+
+        bulkhead.attempt(() -> bulkhead.attempt(() -> "nested"));
+        assertEquals(2, limit.current());
+
+        var rejected = bulkhead.attempt(() -> bulkhead.attempt(() -> bulkhead.attempt(() -> "nested"))).get().get();
+
+        assertTrue(rejected.isFailure());
+        assertEquals("Bulkhead inventory is at its limit of 2 concurrent calls", rejected.asFailure().detail());
+    }
+
+    @Test
+    void givenRegistry_whenSameNameRequested_thenReturnsSameBulkhead()
+    {
+        var registry = BulkheadRegistry.fixed(4);
+
+        assertSame(registry.bulkhead("inventory"), registry.bulkhead("inventory"));
+        assertNotSame(registry.bulkhead("inventory"), registry.bulkhead("pricing"));
+        assertEquals(2, registry.bulkheads().size());
+    }
+}
@@ -0,0 +1,132 @@
+package org.saltations.systematics.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+import org.saltations.systematics.core.Outcome;
+import org.saltations.systematics.core.OutcomeObserver;
+import org.saltations.systematics.core.OutcomeObservers;
+import org.saltations.systematics.test.fixture.ReplaceBDDCamelCase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayNameGeneration(ReplaceBDDCamelCase.class)
+class CircuitBreakerTest
+{
+    private static final CircuitBreakerConfig CONFIG = CircuitBreakerConfig.defaults()
+                                                                            .withSlidingWindow(4, 4)
+                                                                            .withOpenDuration(Duration.ofMillis(20))
+                                                                            .withHalfOpenPermits(2);
+
+    @Test
+    void givenFailureRateBelowThreshold_whenAttempted_thenStaysClosed()
+    {
+        var breaker = new CircuitBreaker("inventory", CONFIG);
+
+        breaker.attempt(() -> "ok");
+        breaker.attempt(() -> "ok");
+        breaker.attempt(() -> "ok");
+        breaker.attempt(() -> { throw new IllegalStateException("Down"); });
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        assertEquals(0.25, breaker.failureRate());
+    }
+
+    @Test
+    void givenFailureRateAtThreshold_whenAttempted_thenOpensAndRejectsWithoutCalling()
+    {
+        var breaker = new CircuitBreaker("inventory", CONFIG);
+        var calls = new AtomicInteger();
+
+        tripOpen(breaker);
+
+        var first = breaker.attempt(calls::incrementAndGet);
+        var second = breaker.attempt(calls::incrementAndGet);
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertEquals(0, calls.get());
+        assertTrue(first.isFailure());
+        assertSame(first, second);
+        assertEquals(ResilienceFailureType.CIRCUIT_OPEN, first.asFailure().type());
+        assertEquals("Circuit breaker inventory is open", first.asFailure().detail());
+    }
+
+    @Test
+    void givenObserver_whenOpenBreakerRejects_thenEveryRejectionIsObserved()
+    {
+        var breaker = new CircuitBreaker("inventory", CONFIG.withOpenDuration(Duration.ofMinutes(1)));
+        var rejections = new AtomicInteger();
+        OutcomeObserver observer = new OutcomeObserver()
+        {
+            @Override
+            public void created(Outcome<?> outcome)
+            {
+                if (outcome.isFailure() && outcome.asFailure().type() == ResilienceFailureType.CIRCUIT_OPEN) {
+                    rejections.incrementAndGet();
+                }
+            }
+        };
+
+        tripOpen(breaker);
+        OutcomeObservers.register(observer);
+
+        try {
+            for (int i = 0; i < 3; i++) {
+                breaker.attempt(() -> "never");
+            }
+
+            assertEquals(3, rejections.get());
+        }
+        finally {
+            OutcomeObservers.unregister(observer);
+        }
+    }
+
+    @Test
+    void givenOpenDurationElapsed_whenTrialCallsSucceed_thenCloses() throws InterruptedException
+    {
+        var breaker = new CircuitBreaker("inventory", CONFIG);
+
+        tripOpen(breaker);
+        Thread.sleep(30);
+
+        assertTrue(breaker.attempt(() -> "ok").isSuccess());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+        assertTrue(breaker.attempt(() -> "ok").isSuccess());
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        assertEquals(0.0, breaker.failureRate());
+    }
+
+    @Test
+    void givenOpenDurationElapsed_whenTrialCallFails_thenOpensAgain() throws InterruptedException
+    {
+        var breaker = new CircuitBreaker("inventory", CONFIG);
+
+        tripOpen(breaker);
+        Thread.sleep(30);
+
+        assertTrue(breaker.attempt(() -> { throw new IllegalStateException("Still down"); }).isFailure());
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+    }
+
+    @Test
+    void givenInvalidConfig_whenCreated_thenThrows()
+    {
+        assertThrows(IllegalArgumentException.class, () -> CircuitBreakerConfig.defaults().withFailureRateThreshold(0.0));
+        assertThrows(IllegalArgumentException.class, () -> CircuitBreakerConfig.defaults().withSlidingWindow(4, 5));
+        assertThrows(IllegalArgumentException.class, () -> CircuitBreakerConfig.defaults().withHalfOpenPermits(0));
+    }
+
+    private static void tripOpen(CircuitBreaker breaker)
+    {
+        breaker.attempt(() -> "ok");
+        breaker.attempt(() -> "ok");
+        breaker.attempt(() -> { throw new IllegalStateException("Down"); });
+        breaker.attempt(() -> { throw new IllegalStateException("Down"); });
+    }
+}
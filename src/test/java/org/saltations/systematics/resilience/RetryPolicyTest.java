@@ -0,0 +1,135 @@
+package org.saltations.systematics.resilience;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+import org.saltations.systematics.core.BasicFailureType;
+import org.saltations.systematics.core.Outcomes;
+import org.saltations.systematics.test.fixture.ReplaceBDDCamelCase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayNameGeneration(ReplaceBDDCamelCase.class)
+class RetryPolicyTest
+{
+    @Test
+    void givenTransientFailures_whenAttempted_thenSucceedsOnLaterAttempt()
+    {
+        var calls = new AtomicInteger();
+        var policy = RetryPolicy.maxAttempts(5).withBackoff(Backoff.fixed(Duration.ofMillis(1)));
+
+        var outcome = policy.attempt(() -> {
+            if (calls.incrementAndGet() < 3) {
+                throw new IOException("Transient");
+            }
+            return "done";
+        });
+
+        assertTrue(outcome.isSuccess());
+        assertEquals("done", outcome.get());
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    void givenPersistentFailure_whenAttempted_thenGivesUpWithLastFailure()
+    {
+        var calls = new AtomicInteger();
+
+        var outcome = RetryPolicy.maxAttempts(3).attempt(() -> {
+            throw new IllegalStateException("Attempt " + calls.incrementAndGet());
+        });
+
+        assertTrue(outcome.isFailure());
+        assertEquals(3, calls.get());
+        assertEquals("Attempt 3", outcome.asFailure().cause().getMessage());
+    }
+
+    @Test
+    void givenCauseFilter_whenCauseDoesNotMatch_thenDoesNotRetry()
+    {
+        var calls = new AtomicInteger();
+        var policy = RetryPolicy.maxAttempts(3).retryOnCauses(IOException.class);
+
+        var outcome = policy.attempt(() -> {
+            calls.incrementAndGet();
+            throw new IllegalArgumentException("Permanent");
+        });
+
+        assertTrue(outcome.isFailure());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void givenTypeFilter_whenFailureTypeMatches_thenIsRetryable()
+    {
+        var policy = RetryPolicy.maxAttempts(3).retryOnTypes(BasicFailureType.TIMEOUT);
+
+        assertTrue(policy.isRetryable(Outcomes.typedFailure(BasicFailureType.TIMEOUT, 10)));
+        assertFalse(policy.isRetryable(Outcomes.typedFailure(BasicFailureType.CATASTROPHIC)));
+    }
+
+    @Test
+    void givenAttemptTimeout_whenAttemptHangs_thenTimesOutAndRetries()
+    {
+        var calls = new AtomicInteger();
+        var policy = RetryPolicy.maxAttempts(2).withAttemptTimeout(Duration.ofMillis(50));
+
+        var outcome = policy.attempt(() -> {
+            if (calls.incrementAndGet() == 1) {
+                Thread.sleep(10_000);
+            }
+            return calls.get();
+        });
+
+        assertEquals(2, outcome.get());
+    }
+
+    @Test
+    void givenAsyncAttempt_whenBackingOff_thenCallerIsNotBlocked()
+    {
+        var policy = RetryPolicy.maxAttempts(2).withBackoff(Backoff.fixed(Duration.ofMillis(200)));
+        var calls = new AtomicInteger();
+
+        var pending = policy.attemptAsync(() -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IOException("Transient");
+            }
+            return "done";
+        });
+
+        assertFalse(pending.isDone(), "Should still be backing off");
+        assertEquals("done", pending.join().get());
+    }
+
+    @Test
+    void givenBackoffs_whenComputed_thenFollowTheirShape()
+    {
+        var exponential = Backoff.exponential(Duration.ofMillis(10), 2.0, Duration.ofMillis(50));
+
+        assertEquals(Duration.ofMillis(10).toNanos(), exponential.delayNanos(1, 0));
+        assertEquals(Duration.ofMillis(40).toNanos(), exponential.delayNanos(3, 0));
+        assertEquals(Duration.ofMillis(50).toNanos(), exponential.delayNanos(10, 0));
+
+        var jitter = Backoff.decorrelatedJitter(Duration.ofMillis(10), Duration.ofMillis(100));
+        var previous = 0L;
+
+        for (int retry = 1; retry < 50; retry++) {
+            var delay = jitter.delayNanos(retry, previous);
+            assertTrue(delay >= Duration.ofMillis(10).toNanos() && delay <= Duration.ofMillis(100).toNanos(), "Out of bounds " + delay);
+            previous = delay;
+        }
+    }
+
+    @Test
+    void givenInvalidSettings_whenConfigured_thenThrows()
+    {
+        assertThrows(IllegalArgumentException.class, () -> RetryPolicy.maxAttempts(0));
+        assertThrows(IllegalArgumentException.class, () -> Backoff.exponential(Duration.ofMillis(1), 0.5, Duration.ofMillis(10)));
+    }
+}